@@ -1,26 +1,43 @@
 -- Database Reset Script for Simplified Schema
 -- This script will drop old tables and recreate them with the new simplified structure
+-- (the same schema as src/main/resources/db/migration, plus sample rows)
 
 -- Drop existing tables (in order to respect foreign key constraints)
 DROP TABLE IF EXISTS shifts CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
 DROP TABLE IF EXISTS employees CASCADE;
+DROP TABLE IF EXISTS change_counters CASCADE;
+DROP TABLE IF EXISTS revoked_tokens CASCADE;
+DROP TABLE IF EXISTS shift_hours_weekly CASCADE;
+DROP TABLE IF EXISTS shift_coverage_hourly CASCADE;
+DROP TABLE IF EXISTS shift_coverage_deltas CASCADE;
+DROP TABLE IF EXISTS change_outbox CASCADE;
+-- Migrations are re-checked against the new tables on the next startup
+DROP TABLE IF EXISTS flyway_schema_history CASCADE;
 
 -- Drop sequences if they exist
 DROP SEQUENCE IF EXISTS employee_sequence CASCADE;
 DROP SEQUENCE IF EXISTS employees_id_seq CASCADE;
 
+DROP SEQUENCE IF EXISTS shift_sequence CASCADE;
+
 -- Create sequence for employee IDs starting from 1
 CREATE SEQUENCE employee_sequence START WITH 1 INCREMENT BY 1;
 
+-- Shift IDs are allocated by Hibernate in blocks of 50 so inserts can be batched
+CREATE SEQUENCE shift_sequence START WITH 1 INCREMENT BY 50;
+
 -- Create Employee table with only Name, Employee Code, and Department
 CREATE TABLE employees (
     id BIGINT DEFAULT nextval('employee_sequence') PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     employee_code VARCHAR(255) NOT NULL UNIQUE,
-    department VARCHAR(255) NOT NULL
+    department VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
+CREATE INDEX idx_employees_department ON employees (department);
+
 -- Create User table (for authentication)
 CREATE TABLE users (
     id BIGSERIAL PRIMARY KEY,
@@ -33,13 +50,43 @@ CREATE TABLE users (
 
 -- Create Shift table with employee_id, Date, Start Time, and End Time
 CREATE TABLE shifts (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     employee_id BIGINT NOT NULL,
     date DATE NOT NULL,
     start_time TIME NOT NULL,
-    end_time TIME NOT NULL
+    end_time TIME NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
+-- Backstop for the application's overlap check: no two shifts of one employee may overlap in time.
+-- Overnight shifts (end_time <= start_time) end on the following day.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+ALTER TABLE shifts ADD CONSTRAINT shifts_no_overlap EXCLUDE USING gist (
+    employee_id WITH =,
+    tsrange(date + start_time,
+            CASE WHEN end_time <= start_time THEN (date + 1) + end_time ELSE date + end_time END) WITH &&
+);
+
+-- Composite indexes for date-range and per-employee shift queries
+CREATE INDEX idx_shifts_date_employee ON shifts (date, employee_id);
+CREATE INDEX idx_shifts_employee_date ON shifts (employee_id, date);
+
+-- Change counters per collection scope ('employees', 'shifts:<date>'), used to answer conditional GETs
+CREATE TABLE change_counters (
+    scope VARCHAR(64) PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+-- Revoked JWT ids, kept until the token expires; mirrored in memory by every instance
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+
 -- Insert sample employees
 INSERT INTO employees (name, employee_code, department) VALUES
     ('John Doe', 'EMP001', 'Engineering'),
@@ -54,10 +101,13 @@ INSERT INTO users (username, password, role, email, name) VALUES
     ('user', '$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy', 'USER', 'user@employeeshift.com', 'Regular User');
 
 -- Insert sample shifts with employee assignments
-INSERT INTO shifts (employee_id, date, start_time, end_time) VALUES
-    (1, '2025-12-11', '09:00:00', '17:00:00'),
-    (2, '2025-12-11', '09:00:00', '17:00:00'),
-    (3, '2025-12-12', '09:00:00', '17:00:00');
+INSERT INTO shifts (id, employee_id, date, start_time, end_time) VALUES
+    (1, 1, '2025-12-11', '09:00:00', '17:00:00'),
+    (2, 2, '2025-12-11', '09:00:00', '17:00:00'),
+    (3, 3, '2025-12-12', '09:00:00', '17:00:00');
+
+-- Move the shift sequence past the sample rows
+SELECT setval('shift_sequence', 51);
 
 COMMENT ON TABLE employees IS 'Stores employee information with name, code, and department only';
 COMMENT ON TABLE users IS 'Stores user authentication information (decoupled from employees)';
@@ -0,0 +1,88 @@
+package com.employeeboard.employee.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token cost: {@link JwtUtil} with its prebuilt key and parser against the
+ * previous implementation, which rebuilt both on every call and parsed the token once for
+ * the subject and again for the expiration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    static final String SECRET = "YourSecretKeyForJWTTokenGenerationShouldBeAtLeast256BitsLong";
+
+    private JwtUtil jwtUtil;
+    private UserDetails user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = jwtUtil();
+        user = User.withUsername("admin").password("unused").roles("ADMIN").build();
+        token = jwtUtil.generateToken(user);
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", TimeUnit.DAYS.toMillis(7));
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "employee-shift-board");
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public TokenClaims parse() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Boolean validate() {
+        return jwtUtil.validateToken(token, user);
+    }
+
+    @Benchmark
+    public Boolean validateLegacy() {
+        String username = legacyClaims(token).getSubject();
+        return username.equals(user.getUsername()) && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,118 @@
+package com.employeeboard.employee.security;
+
+import com.employeeboard.employee.model.User;
+import com.employeeboard.employee.repository.RevokedTokenRepository;
+import com.employeeboard.employee.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link JwtAuthenticationFilter} end to end for one request, with a no-op chain and
+ * stubbed repositories. {@code token} selects the path: a token already in the verified
+ * cache, a token that has to be verified every time, or no token at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    @Param({"cached", "verified", "none"})
+    private String token;
+
+    private JwtAuthenticationFilter filter;
+    private TokenRevocationIndex revocationIndex;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtUtil jwtUtil = JwtBenchmark.jwtUtil();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(new User("admin", "unused", "ADMIN")));
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService();
+        ReflectionTestUtils.setField(userDetailsService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userDetailsService, "userCacheMaxEntries", 10_000L);
+        ReflectionTestUtils.setField(userDetailsService, "userCacheTtl", TimeUnit.HOURS.toMillis(1));
+        userDetailsService.init();
+
+        VerifiedTokenCache verifiedTokenCache = "verified".equals(token)
+                ? new VerifiedTokenCache() {
+                    @Override
+                    public TokenClaims get(String jwt) {
+                        return null;
+                    }
+
+                    @Override
+                    public void put(String jwt, TokenClaims claims) {
+                    }
+                }
+                : new VerifiedTokenCache();
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxEntries", 10_000L);
+        verifiedTokenCache.init();
+
+        revocationIndex = new TokenRevocationIndex();
+        ReflectionTestUtils.setField(revocationIndex, "revokedTokenRepository", mock(RevokedTokenRepository.class));
+        ReflectionTestUtils.setField(revocationIndex, "maxEntries", 100_000);
+        ReflectionTestUtils.setField(revocationIndex, "syncInterval", TimeUnit.HOURS.toMillis(1));
+        revocationIndex.init();
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.setField(filter, "revocationIndex", revocationIndex);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "headerName", "Authorization");
+        ReflectionTestUtils.setField(filter, "tokenPrefix", "Bearer ");
+
+        String jwt = jwtUtil.generateToken(userDetailsService.loadUserByUsername("admin"));
+        authorization = "none".equals(token) ? null : "Bearer " + jwt;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        revocationIndex.shutdown();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/shifts");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), CHAIN);
+            return request.getAttribute("username");
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.model.Shift;
+import com.employeeboard.employee.repository.ShiftRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost of the checks {@link ShiftService} runs on every new shift, for an employee with
+ * {@code historySize} stored shifts. The repository is stubbed with an in-memory date index,
+ * so the cached timeline is loaded once and the re-check of accepted shifts against the
+ * stored ones ({@link ShiftIntervalIndex#findConflictInDatabase}, on with one-per-day or a
+ * rest gap) rebuilds its window from memory. Results exclude that query's database round
+ * trip, which dominates the accepted path in production, but include the stub's dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShiftValidationBenchmark {
+
+    private static final long EMPLOYEE_ID = 1L;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2000, 1, 1);
+
+    @Param({"10", "1000", "100000"})
+    private int historySize;
+
+    @Param({"0", "480"})
+    private long minRestMinutes;
+
+    private ShiftService shiftService;
+    private ShiftIntervalIndex index;
+    private Shift fits;
+    private Shift overnightFits;
+    private Shift sameDay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // One day shift per day and an overnight shift every seventh day
+        List<Shift> history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            Shift shift = i % 7 == 6
+                    ? new Shift(EMPLOYEE_ID, FIRST_DAY.plusDays(i), LocalTime.of(22, 0), LocalTime.of(6, 0))
+                    : new Shift(EMPLOYEE_ID, FIRST_DAY.plusDays(i), LocalTime.of(9, 0), LocalTime.of(17, 0));
+            shift.setId((long) i + 1);
+            history.add(shift);
+        }
+
+        ShiftRepository shiftRepository = mock(ShiftRepository.class);
+        // Answers window queries like the (employee_id, date) index: only the neighbouring days are read
+        NavigableMap<LocalDate, Shift> byDate = new TreeMap<>();
+        history.forEach(shift -> byDate.put(shift.getDate(), shift));
+        when(shiftRepository.findByEmployeeIdInAndDateBetween(any(), any(), any())).thenAnswer(invocation ->
+                new ArrayList<>(byDate.subMap(invocation.getArgument(1), true, invocation.getArgument(2), true).values()));
+
+        index = new ShiftIntervalIndex();
+        ReflectionTestUtils.setField(index, "shiftRepository", shiftRepository);
+        ReflectionTestUtils.setField(index, "maxEmployees", 10_000L);
+        ReflectionTestUtils.setField(index, "ttl", TimeUnit.DAYS.toMillis(1));
+        ReflectionTestUtils.setField(index, "windowDays", 28L);
+        ReflectionTestUtils.setField(index, "minRestMinutes", minRestMinutes);
+        ReflectionTestUtils.setField(index, "onePerDay", true);
+        index.init();
+
+        ShiftMetrics shiftMetrics = new ShiftMetrics();
+        ReflectionTestUtils.setField(shiftMetrics, "registry", new SimpleMeterRegistry());
+
+        shiftService = new ShiftService();
+        ReflectionTestUtils.setField(shiftService, "shiftIntervalIndex", index);
+        ReflectionTestUtils.setField(shiftService, "shiftMetrics", shiftMetrics);
+
+        LocalDate middle = FIRST_DAY.plusDays(historySize / 2);
+        LocalDate afterHistory = FIRST_DAY.plusDays(historySize + 1);
+        fits = new Shift(EMPLOYEE_ID, afterHistory, LocalTime.of(9, 0), LocalTime.of(17, 0));
+        overnightFits = new Shift(EMPLOYEE_ID, afterHistory.plusDays(2), LocalTime.of(20, 0), LocalTime.of(4, 0));
+        sameDay = new Shift(EMPLOYEE_ID, middle, LocalTime.of(18, 0), LocalTime.of(23, 0));
+
+        // Loads the timeline so only steady-state lookups are measured
+        index.findConflict(fits);
+    }
+
+    @Benchmark
+    public void durationCheck() {
+        shiftService.validateShiftDuration(fits);
+    }
+
+    @Benchmark
+    public void overlapCheckAccepted() {
+        shiftService.validateNoOverlappingShifts(fits);
+    }
+
+    @Benchmark
+    public void overlapCheckAcceptedOvernight() {
+        shiftService.validateNoOverlappingShifts(overnightFits);
+    }
+
+    @Benchmark
+    public void overlapCheckRejectedSameDay(Blackhole blackhole) {
+        try {
+            shiftService.validateNoOverlappingShifts(sameDay);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public ShiftTimeline.Conflict conflictLookupRejected() {
+        // The rule lookup alone, without the exception a rejection throws
+        return index.findConflict(sameDay);
+    }
+}
@@ -0,0 +1,129 @@
+package com.employeeboard.employee.loadtest;
+
+import com.employeeboard.employee.EmplouyeeApplication;
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.service.BoardEventBroadcaster;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A client that stops reading leaves its sender blocked in a write while events keep
+ * arriving. When its queue then overflows it must be dropped without making publishers
+ * wait for that write: they run after commit while shift writers still hold their
+ * per-employee locks. Run with {@code mvn -Ploadtest test}.
+ */
+class BoardEventBackpressureTest {
+
+    private static final int SUBSCRIBER_BUFFER = 4;
+    // Far larger than the socket buffers, so the first send blocks on a client that does not read
+    private static final String LARGE_NAME = "x".repeat(4_000_000);
+
+    private static LoadTestDatabase database;
+    private static ConfigurableApplicationContext application;
+    private static BoardEventBroadcaster broadcaster;
+    private static int port;
+    private static String token;
+
+    @BeforeAll
+    static void start() throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(new String[] {"--employees=4", "--shifts=0"});
+        database = LoadTestDatabase.start(options);
+        database.resetSchema();
+        new LoadTestSeeder(database, options).seed();
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        application = new SpringApplicationBuilder(EmplouyeeApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + database.getUrl(),
+                "--spring.datasource.username=" + database.getUsername(),
+                "--spring.datasource.password=" + database.getPassword(),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--board.events.subscriber-buffer=" + SUBSCRIBER_BUFFER,
+                // Only the overflow may disconnect the client here, not the stalled send check
+                "--board.events.send-timeout=600000");
+        broadcaster = application.getBean(BoardEventBroadcaster.class);
+        port = Integer.parseInt(application.getEnvironment().getProperty("local.server.port"));
+        token = new LoadClient("http://localhost:" + port, application.getBean(ObjectMapper.class))
+                .login("admin", "admin123");
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (application != null) {
+            application.close();
+        }
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void overflowDuringBlockedSendDoesNotBlockPublishers() throws Exception {
+        try (Socket client = subscribeWithoutReading()) {
+            awaitSubscribers(1);
+            // One event in flight and blocked, the rest waiting in the queue
+            for (int i = 0; i < SUBSCRIBER_BUFFER - 1; i++) {
+                broadcaster.employeesUpdated(List.of(employee(i, LARGE_NAME)));
+            }
+            Thread.sleep(2000);
+
+            ExecutorService publisher = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> overflow = publisher.submit(() -> {
+                    for (int i = 0; i < 2 * SUBSCRIBER_BUFFER; i++) {
+                        broadcaster.employeesUpdated(List.of(employee(i, "Small")));
+                    }
+                });
+                overflow.get(5, TimeUnit.SECONDS);
+            } finally {
+                publisher.shutdownNow();
+            }
+            assertEquals(0, broadcaster.getSubscriberCount(), "the overflowing subscriber is dropped");
+        }
+    }
+
+    private static Socket subscribeWithoutReading() throws Exception {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /api/shifts/stream HTTP/1.1\r\nHost: localhost\r\nAuthorization: Bearer " + token
+                + "\r\nAccept: text/event-stream\r\nAccept-Encoding: identity\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        return socket;
+    }
+
+    private static void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (broadcaster.getSubscriberCount() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(count, broadcaster.getSubscriberCount());
+    }
+
+    private static Employee employee(long id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        employee.setEmployeeCode("EMP" + id);
+        employee.setDepartment("Sales");
+        return employee;
+    }
+}
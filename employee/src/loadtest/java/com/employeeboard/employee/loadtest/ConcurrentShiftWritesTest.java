@@ -0,0 +1,315 @@
+package com.employeeboard.employee.loadtest;
+
+import com.employeeboard.employee.EmplouyeeApplication;
+import com.employeeboard.employee.dto.BulkImportResponse;
+import com.employeeboard.employee.dto.BulkRowResult;
+import com.employeeboard.employee.dto.ShiftRequest;
+import com.employeeboard.employee.service.ShiftService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many writers race for the same employee with shifts that exclude each other. Per conflict
+ * exactly one may be stored, and every loser must be turned away by the scheduling rules
+ * while holding the employee's lock. A {@link DataIntegrityViolationException} (a 409 over
+ * HTTP) means the database constraints had to step in, i.e. two writers checked at the same
+ * time. The rest-gap and one-per-day rules have no constraint behind them, so a second
+ * stored shift there would go unnoticed by the database; they must also hold between two
+ * instances whose cached timelines are stale. Run with {@code mvn -Ploadtest test}.
+ */
+class ConcurrentShiftWritesTest {
+
+    private static final int WRITERS = 16;
+    private static final int ROUNDS = 12;
+    private static final int MIN_REST_MINUTES = 600;
+
+    private static LoadTestDatabase database;
+    private static ConfigurableApplicationContext application;
+    private static ConfigurableApplicationContext otherInstance;
+    private static ShiftService shiftService;
+    private static ShiftService otherShiftService;
+    private static List<Long> employeeIds;
+    private static LocalDate firstDay;
+    private static final AtomicInteger nextEmployee = new AtomicInteger();
+
+    @BeforeAll
+    static void start() throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(new String[] {"--employees=" + (7 * ROUNDS), "--shifts=0"});
+        database = LoadTestDatabase.start(options);
+        database.resetSchema();
+        LoadTestSeeder.SeedPlan plan = new LoadTestSeeder(database, options).seed();
+        employeeIds = plan.employeeIds();
+        firstDay = plan.contendedStart();
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        application = startInstance();
+        shiftService = application.getBean(ShiftService.class);
+        // A second instance on the same database, with its own timeline cache and lock stripes
+        otherInstance = startInstance();
+        otherShiftService = otherInstance.getBean(ShiftService.class);
+    }
+
+    private static ConfigurableApplicationContext startInstance() {
+        return new SpringApplicationBuilder(EmplouyeeApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + database.getUrl(),
+                "--spring.datasource.username=" + database.getUsername(),
+                "--spring.datasource.password=" + database.getPassword(),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--shifts.rules.min-rest-minutes=" + MIN_REST_MINUTES);
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (otherInstance != null) {
+            otherInstance.close();
+        }
+        if (application != null) {
+            application.close();
+        }
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void overlappingShiftsForOneEmployeeStoreExactlyOne() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Long employeeId = nextEmployeeId();
+            LocalDate day = firstDay.plusDays(3L * round);
+            // Pairwise overlapping: same day, and across midnight into the next day
+            List<ShiftRequest> candidates = List.of(
+                    shift(employeeId, day, "20:00", "04:00"),
+                    shift(employeeId, day, "22:00", "06:00"),
+                    shift(employeeId, day.plusDays(1), "02:00", "10:00"));
+
+            Outcomes outcomes = race(index -> single(candidates.get(index % candidates.size())));
+
+            assertEquals(1, outcomes.created.get(), "shifts accepted in round " + round);
+            assertEquals(0, outcomes.integrityViolations.get(), "writers that reached a database constraint");
+            assertEquals(1, storedShifts(employeeId, day, day.plusDays(1)));
+        }
+    }
+
+    @Test
+    void shiftsTooCloseTogetherStoreExactlyOne() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Long employeeId = nextEmployeeId();
+            LocalDate day = firstDay.plusDays(3L * round);
+            // Different days and no overlap, only 6 hours apart: nothing in the database rejects the pair
+            List<ShiftRequest> candidates = List.of(
+                    shift(employeeId, day, "14:00", "22:00"),
+                    shift(employeeId, day.plusDays(1), "04:00", "10:00"));
+
+            Outcomes outcomes = race(index -> single(candidates.get(index % candidates.size())));
+
+            assertEquals(1, outcomes.created.get(), "shifts accepted in round " + round);
+            assertEquals(0, outcomes.integrityViolations.get(), "writers that reached a database constraint");
+            assertTrue(outcomes.rejections.getOrDefault("min-rest", 0) > 0,
+                    "some writers must lose on the rest gap rather than the one-per-day rule: " + outcomes.rejections);
+            assertEquals(1, storedShifts(employeeId, day, day.plusDays(1)));
+        }
+    }
+
+    @Test
+    void restGapHoldsAcrossInstances() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Long employeeId = nextEmployeeId();
+            LocalDate day = firstDay.plusDays(3L * round);
+            // Both instances cache a window of the employee's timeline around the contested days, each missing the shift the other stores
+            shiftService.createShift(shift(employeeId, day.plusDays(10), "08:00", "16:00"));
+            otherShiftService.createShift(shift(employeeId, day.plusDays(20), "08:00", "16:00"));
+            List<ShiftRequest> candidates = List.of(
+                    shift(employeeId, day, "14:00", "22:00"),
+                    shift(employeeId, day.plusDays(1), "04:00", "10:00"));
+
+            Outcomes outcomes = race(index -> single(index % 2 == 0 ? shiftService : otherShiftService,
+                    candidates.get(index / 2 % candidates.size())));
+
+            assertEquals(1, outcomes.created.get(), "shifts accepted in round " + round);
+            assertEquals(1, storedShifts(employeeId, day, day.plusDays(1)));
+        }
+    }
+
+    @Test
+    void onePerDayHoldsAcrossInstances() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Long employeeId = nextEmployeeId();
+            LocalDate day = firstDay.plusDays(3L * round);
+            shiftService.createShift(shift(employeeId, day.plusDays(10), "08:00", "16:00"));
+            otherShiftService.createShift(shift(employeeId, day.plusDays(20), "08:00", "16:00"));
+            // Same day, further apart than the rest gap: only the one-per-day rule separates them
+            List<ShiftRequest> candidates = List.of(
+                    shift(employeeId, day, "00:00", "04:00"),
+                    shift(employeeId, day, "15:00", "19:00"));
+
+            Outcomes outcomes = race(index -> single(index % 2 == 0 ? shiftService : otherShiftService,
+                    candidates.get(index / 2 % candidates.size())));
+
+            assertEquals(1, outcomes.created.get(), "shifts accepted in round " + round);
+            assertEquals(1, storedShifts(employeeId, day, day));
+        }
+    }
+
+    @Test
+    void bulkAndSingleWritersStoreExactlyOnePerEmployee() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Long> employees = List.of(nextEmployeeId(), nextEmployeeId(), nextEmployeeId());
+            LocalDate day = firstDay.plusDays(3L * round);
+
+            Outcomes outcomes = race(index -> {
+                // Every writer proposes a conflicting shift for each employee, in its own order
+                List<ShiftRequest> batch = new ArrayList<>();
+                for (int i = 0; i < employees.size(); i++) {
+                    Long employeeId = employees.get((index + i) % employees.size());
+                    batch.add(index % 2 == 0
+                            ? shift(employeeId, day, "14:00", "22:00")
+                            : shift(employeeId, day.plusDays(1), "04:00", "10:00"));
+                }
+                if (index % 4 == 3) {
+                    return single(batch.get(0));
+                }
+                BulkImportResponse response = shiftService.importShifts(batch, false);
+                List<String> results = new ArrayList<>();
+                for (BulkRowResult row : response.getResults()) {
+                    results.add(row.getError() == null ? "created" : rule(row.getError()));
+                }
+                return results;
+            });
+
+            assertEquals(employees.size(), outcomes.created.get(), "shifts accepted in round " + round);
+            assertEquals(0, outcomes.integrityViolations.get(), "writers that reached a database constraint");
+            for (Long employeeId : employees) {
+                assertEquals(1, storedShifts(employeeId, day, day.plusDays(1)), "shifts stored for employee " + employeeId);
+            }
+        }
+    }
+
+    private static Long nextEmployeeId() {
+        return employeeIds.get(nextEmployee.getAndIncrement());
+    }
+
+    private static ShiftRequest shift(Long employeeId, LocalDate date, String start, String end) {
+        return new ShiftRequest(employeeId, date, LocalTime.parse(start), LocalTime.parse(end));
+    }
+
+    private static List<String> single(ShiftRequest request) {
+        return single(shiftService, request);
+    }
+
+    private static List<String> single(ShiftService service, ShiftRequest request) {
+        try {
+            service.createShift(request);
+            return List.of("created");
+        } catch (IllegalArgumentException e) {
+            return List.of(rule(e.getMessage()));
+        }
+    }
+
+    private static String rule(String message) {
+        if (message.startsWith("Shifts must be at least")) {
+            return "min-rest";
+        }
+        if (message.startsWith("Shift overlaps")) {
+            return "overlap";
+        }
+        if (message.startsWith("Employee already has a shift")) {
+            return "one-per-day";
+        }
+        return message;
+    }
+
+    /**
+     * Starts all writers at once and tallies what happened to each of their shifts.
+     */
+    private static Outcomes race(Writer writer) throws Exception {
+        Outcomes outcomes = new Outcomes();
+        CountDownLatch ready = new CountDownLatch(WRITERS);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    try {
+                        outcomes.record(writer.write(index));
+                    } catch (DataIntegrityViolationException e) {
+                        outcomes.integrityViolations.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            ready.await();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    private static long storedShifts(Long employeeId, LocalDate from, LocalDate to) throws SQLException {
+        try (Connection connection = database.connect();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT COUNT(*) FROM shifts WHERE employee_id = ? AND date BETWEEN ? AND ?")) {
+            statement.setLong(1, employeeId);
+            statement.setObject(2, from);
+            statement.setObject(3, to);
+            try (ResultSet rows = statement.executeQuery()) {
+                rows.next();
+                return rows.getLong(1);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        List<String> write(int index);
+    }
+
+    private static final class Outcomes {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger integrityViolations = new AtomicInteger();
+        final Map<String, Integer> rejections = new ConcurrentHashMap<>();
+
+        void record(List<String> results) {
+            for (String result : results) {
+                if (result.equals("created")) {
+                    created.incrementAndGet();
+                } else {
+                    rejections.merge(result, 1, Integer::sum);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.employeeboard.employee.loadtest;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Blocking HTTP client for the application under test. Every call is timed from send to
+ * the last byte of the body and recorded under a fixed endpoint name, so requests with
+ * different query parameters are reported together.
+ */
+final class LoadClient {
+
+    // Recorded instead of a status code when the request did not complete
+    static final String IO_ERROR = "io-error";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+
+    LoadClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Logs in outside of any measurement and returns the access token.
+     */
+    String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(
+                loginRequest(username, password), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + username + " failed with " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("token").asString();
+    }
+
+    HttpResponse<String> postLogin(LoadStats stats, String username, String password) {
+        return send(stats, "POST /api/auth/login", loginRequest(username, password));
+    }
+
+    HttpResponse<String> get(LoadStats stats, String endpoint, String path, String token, String etag) {
+        HttpRequest.Builder request = request(path, token).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return send(stats, endpoint, request.build());
+    }
+
+    HttpResponse<String> post(LoadStats stats, String endpoint, String path, String token, Map<String, ?> body) {
+        HttpRequest request = request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return send(stats, endpoint, request);
+    }
+
+    private HttpRequest loginRequest(String username, String password) {
+        return request("/api/auth/login", null)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    private HttpResponse<String> send(LoadStats stats, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, Integer.toString(response.statusCode()), System.nanoTime() - start);
+            return response;
+        } catch (IOException e) {
+            stats.record(endpoint, IO_ERROR, System.nanoTime() - start);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.employeeboard.employee.loadtest;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per scenario and endpoint, printed as a table and
+ * written as JSON. A previous report can be given as a baseline, in which case a p99
+ * increase or a throughput drop beyond {@code --max-regression} fails the run.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .build();
+    private final LoadTestOptions options;
+    private final List<Map<String, Object>> scenarios = new ArrayList<>();
+    private final List<Map<String, Object>> checks = new ArrayList<>();
+    private final Instant startedAt = Instant.now();
+
+    LoadReport(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    void add(LoadRunner.ScenarioResult result) {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        result.stats().endpoints().forEach((name, stats) -> {
+            Histogram latency = stats.latency;
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", name);
+            endpoint.put("requests", latency.getTotalCount());
+            endpoint.put("throughput", round(latency.getTotalCount() / result.elapsedSeconds()));
+            for (double percentile : PERCENTILES) {
+                endpoint.put("p" + format(percentile) + "Millis", millis(latency.getValueAtPercentile(percentile)));
+            }
+            endpoint.put("maxMillis", millis(latency.getMaxValue()));
+            Map<String, Long> responses = new LinkedHashMap<>();
+            stats.outcomes.forEach((outcome, count) -> responses.put(outcome, count.sum()));
+            endpoint.put("responses", responses);
+            endpoints.add(endpoint);
+        });
+
+        Map<String, Object> scenario = new LinkedHashMap<>();
+        scenario.put("name", result.name());
+        scenario.put("users", result.users());
+        scenario.put("seconds", round(result.elapsedSeconds()));
+        scenario.put("endpoints", endpoints);
+        scenarios.add(scenario);
+        print(scenario);
+    }
+
+    void check(String name, boolean passed, String detail) {
+        Map<String, Object> check = new LinkedHashMap<>();
+        check.put("name", name);
+        check.put("passed", passed);
+        check.put("detail", detail);
+        checks.add(check);
+        System.out.printf("%s %s: %s%n", passed ? "[PASS]" : "[FAIL]", name, detail);
+    }
+
+    boolean passed() {
+        return checks.stream().allMatch(check -> Boolean.TRUE.equals(check.get("passed")));
+    }
+
+    void compareWith(Path baselinePath) throws IOException {
+        JsonNode baseline = objectMapper.readTree(Files.readString(baselinePath));
+        System.out.printf("%nAgainst baseline %s (%s):%n", baseline.path("label").asString(), baselinePath);
+        List<String> regressions = new ArrayList<>();
+        for (Map<String, Object> scenario : scenarios) {
+            JsonNode baselineScenario = find(baseline.path("scenarios"), "name", (String) scenario.get("name"));
+            if (baselineScenario == null) {
+                continue;
+            }
+            for (Object value : (List<?>) scenario.get("endpoints")) {
+                Map<?, ?> endpoint = (Map<?, ?>) value;
+                JsonNode before = find(baselineScenario.path("endpoints"), "endpoint", (String) endpoint.get("endpoint"));
+                if (before == null) {
+                    continue;
+                }
+                double p99 = (Double) endpoint.get("p99Millis");
+                double throughput = (Double) endpoint.get("throughput");
+                double p99Before = before.path("p99Millis").asDouble();
+                double throughputBefore = before.path("throughput").asDouble();
+                String line = String.format("  %-16s %-30s p99 %8.2f -> %8.2f ms   req/s %9.1f -> %9.1f",
+                        scenario.get("name"), endpoint.get("endpoint"), p99Before, p99, throughputBefore, throughput);
+                System.out.println(line);
+                if (p99 > p99Before * (1 + options.maxRegression)
+                        || throughput < throughputBefore * (1 - options.maxRegression)) {
+                    regressions.add(line.trim());
+                }
+            }
+        }
+        check("no regression against " + baselinePath.getFileName(), regressions.isEmpty(),
+                regressions.isEmpty() ? "within " + format(options.maxRegression * 100) + "%" : String.join("; ", regressions));
+    }
+
+    void write(Path path) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label);
+        report.put("startedAt", startedAt.toString());
+        report.put("options", options.describe());
+        report.put("scenarios", scenarios);
+        report.put("checks", checks);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, objectMapper.writeValueAsString(report));
+        System.out.printf("%nReport written to %s%n", path);
+    }
+
+    private static void print(Map<String, Object> scenario) {
+        System.out.printf("%n== %s (%s users, %s s)%n", scenario.get("name"), scenario.get("users"), scenario.get("seconds"));
+        System.out.printf("%-30s %9s %9s %8s %8s %8s %8s %8s  %s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "responses");
+        for (Object value : (List<?>) scenario.get("endpoints")) {
+            Map<?, ?> endpoint = (Map<?, ?>) value;
+            System.out.printf("%-30s %9d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f  %s%n",
+                    endpoint.get("endpoint"), endpoint.get("requests"), endpoint.get("throughput"),
+                    endpoint.get("p50Millis"), endpoint.get("p90Millis"), endpoint.get("p99Millis"),
+                    endpoint.get("p99.9Millis"), endpoint.get("maxMillis"), endpoint.get("responses"));
+        }
+    }
+
+    private static JsonNode find(JsonNode array, String field, String value) {
+        for (JsonNode node : array) {
+            if (value.equals(node.path(field).asString())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+}
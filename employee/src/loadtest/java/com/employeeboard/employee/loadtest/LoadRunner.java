@@ -0,0 +1,57 @@
+package com.employeeboard.employee.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a scenario with one platform thread per virtual user: first a warmup whose numbers
+ * are thrown away, then the measured phase.
+ */
+final class LoadRunner {
+
+    private LoadRunner() {
+    }
+
+    static ScenarioResult run(String name, Scenarios.Scenario scenario, List<VirtualUser> users,
+                              int warmupSeconds, int durationSeconds) throws InterruptedException {
+        if (warmupSeconds > 0) {
+            runFor(scenario, users, new LoadStats(), warmupSeconds);
+        }
+        LoadStats stats = new LoadStats();
+        long elapsed = runFor(scenario, users, stats, durationSeconds);
+        return new ScenarioResult(name, users.size(), elapsed, stats);
+    }
+
+    private static long runFor(Scenarios.Scenario scenario, List<VirtualUser> users, LoadStats stats, int seconds)
+            throws InterruptedException {
+        users.forEach(user -> user.stats = stats);
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(users.size(),
+                runnable -> new Thread(runnable, "load-user-" + count.incrementAndGet()));
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        for (VirtualUser user : users) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    scenario.iterate(user);
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return System.nanoTime() - start;
+    }
+
+    record ScenarioResult(String name, int users, long elapsedNanos, LoadStats stats) {
+
+        double elapsedSeconds() {
+            return elapsedNanos / 1e9;
+        }
+    }
+}
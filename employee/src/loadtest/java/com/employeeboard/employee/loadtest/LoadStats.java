@@ -0,0 +1,49 @@
+package com.employeeboard.employee.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and response counts per endpoint for one measured phase.
+ */
+final class LoadStats {
+
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, String outcome, long nanos) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, name -> new EndpointStats());
+        stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_TRACKED_MICROS));
+        stats.outcomes.computeIfAbsent(outcome, name -> new LongAdder()).increment();
+    }
+
+    Map<String, EndpointStats> endpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    static final class EndpointStats {
+
+        final Histogram latency = new ConcurrentHistogram(MAX_TRACKED_MICROS, 3);
+        final Map<String, LongAdder> outcomes = new ConcurrentSkipListMap<>();
+
+        long count(String outcome) {
+            LongAdder count = outcomes.get(outcome);
+            return count != null ? count.sum() : 0;
+        }
+
+        long countMatching(char statusClass) {
+            return outcomes.entrySet().stream()
+                    .filter(entry -> entry.getKey().charAt(0) == statusClass)
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.employeeboard.employee.loadtest;
+
+import com.employeeboard.employee.EmplouyeeApplication;
+import com.employeeboard.employee.service.LaborAnalyticsService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: recreates the schema in a PostgreSQL stand-in, seeds it, boots the
+ * application on a random port and replays each scenario in turn. Exits non-zero when a
+ * consistency check fails or, with {@code --baseline}, when a scenario regressed.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadReport report = new LoadReport(options);
+
+        try (LoadTestDatabase database = LoadTestDatabase.start(options)) {
+            database.resetSchema();
+            LoadTestSeeder.SeedPlan plan = new LoadTestSeeder(database, options).seed();
+            System.out.printf("Seeded %d employees and %d shifts from %s to %s%n",
+                    plan.employeeIds().size(), options.shifts, plan.firstDay(), plan.lastDay());
+
+            try (ConfigurableApplicationContext application = startApplication(options, database)) {
+                // The seeder wrote its shifts over JDBC, past the services that keep the aggregates
+                application.getBean(LaborAnalyticsService.class).rebuild(plan.firstDay(), plan.lastDay());
+                String baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+                LoadClient client = new LoadClient(baseUrl, application.getBean(ObjectMapper.class));
+                String token = client.login("admin", "admin123");
+
+                List<VirtualUser> users = new ArrayList<>();
+                for (int i = 0; i < options.users; i++) {
+                    users.add(new VirtualUser(i, options.seed, client, plan, token));
+                }
+
+                long serverErrors = 0;
+                for (String name : options.scenarios) {
+                    LoadRunner.ScenarioResult result = LoadRunner.run(name, Scenarios.named(name, options.users),
+                            users, options.warmupSeconds, options.durationSeconds);
+                    report.add(result);
+                    // 503 is deliberate backpressure; any other 5xx is a bug
+                    for (LoadStats.EndpointStats stats : result.stats().endpoints().values()) {
+                        serverErrors += stats.countMatching('5') - stats.count("503");
+                    }
+                    if (name.equals("contended-writes")) {
+                        verifyContendedWrites(result, report);
+                    }
+                }
+                verifyAggregates(database, report);
+                report.check("no server errors", serverErrors == 0, serverErrors + " responses with a 5xx status other than 503");
+            }
+        }
+
+        if (options.baseline != null) {
+            report.compareWith(options.baseline);
+        }
+        report.write(options.report);
+        System.exit(report.passed() ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, LoadTestDatabase database) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", database.getUrl());
+        properties.put("spring.datasource.username", database.getUsername());
+        properties.put("spring.datasource.password", database.getPassword());
+        // Same as production: the migrated schema must match the entities exactly
+        properties.put("spring.jpa.hibernate.ddl-auto", "validate");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.employeeboard", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        // Virtual users keep one token for the whole run
+        properties.put("jwt.expiration", "86400000");
+        properties.putAll(options.applicationProperties);
+
+        // Command line arguments take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(EmplouyeeApplication.class).run(args);
+    }
+
+    /**
+     * The analytics aggregates, maintained incrementally by every write, must equal a full
+     * recomputation from the shifts. Coverage counts the deltas that are not folded yet.
+     */
+    private static void verifyAggregates(LoadTestDatabase database, LoadReport report) throws SQLException {
+        String minutes = "(EXTRACT(EPOCH FROM s.end_time - s.start_time)::bigint "
+                + "+ CASE WHEN s.end_time <= s.start_time THEN 86400 ELSE 0 END) / 60";
+        String end = "CASE WHEN s.end_time <= s.start_time THEN (s.date + 1) + s.end_time ELSE s.date + s.end_time END";
+        String hours = "SELECT COUNT(*) FROM (SELECT date_trunc('week', s.date)::date AS week_start, s.employee_id, "
+                + "SUM(" + minutes + ") AS minutes, COUNT(*) AS shifts FROM shifts s GROUP BY 1, 2) r "
+                + "FULL JOIN shift_hours_weekly w USING (week_start, employee_id) "
+                + "WHERE COALESCE(r.minutes, 0) <> COALESCE(w.minutes, 0) OR COALESCE(r.shifts, 0) <> COALESCE(w.shifts, 0)";
+        String coverage = "SELECT COUNT(*) FROM (SELECT h::date AS date, e.department, EXTRACT(HOUR FROM h)::smallint AS hour, "
+                + "COUNT(*) AS headcount FROM shifts s JOIN employees e ON e.id = s.employee_id "
+                + "CROSS JOIN LATERAL generate_series(date_trunc('hour', s.date + s.start_time), "
+                + end + " - INTERVAL '1 microsecond', INTERVAL '1 hour') h GROUP BY 1, 2, 3) r "
+                + "FULL JOIN (SELECT date, department, hour, SUM(headcount) AS headcount FROM (SELECT date, department, hour, headcount "
+                + "FROM shift_coverage_hourly UNION ALL SELECT date, department, hour, headcount FROM shift_coverage_deltas) f "
+                + "GROUP BY 1, 2, 3) c USING (date, department, hour) "
+                + "WHERE COALESCE(r.headcount, 0) <> COALESCE(c.headcount, 0)";
+        try (Connection connection = database.connect(); Statement statement = connection.createStatement()) {
+            long hourMismatches = count(statement, hours);
+            report.check("weekly hours match the shifts", hourMismatches == 0,
+                    hourMismatches + " (week, employee) aggregates differ from the shifts");
+            long coverageMismatches = count(statement, coverage);
+            report.check("hourly coverage matches the shifts", coverageMismatches == 0,
+                    coverageMismatches + " (day, department, hour) aggregates differ from the shifts");
+        }
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    /**
+     * Contended writers for one employee must be ordered by the application's per-employee
+     * lock, each loser turned away by the scheduling rules with a 400. A 409 means a database
+     * constraint caught a duplicate that the checks let through, i.e. two writers checked at
+     * the same time. The constraints only make that visible; they do not show the lock works.
+     */
+    private static void verifyContendedWrites(LoadRunner.ScenarioResult result, LoadReport report) {
+        LoadStats.EndpointStats contended = result.stats().endpoints().get(Scenarios.CONTENDED);
+        long created = contended != null ? contended.countMatching('2') : 0;
+        long conflicts = contended != null ? contended.count("409") : 0;
+        int slots = Scenarios.CONTENDED_EMPLOYEES * Scenarios.CONTENDED_DAYS;
+        report.check("contended writes serialised per employee", conflicts == 0,
+                conflicts + " contended writes rejected by a database constraint instead of the scheduling rules");
+        report.check("contended slots filled at most once", created <= slots,
+                created + " contended writes accepted for " + slots + " slots");
+    }
+}
@@ -0,0 +1,74 @@
+package com.employeeboard.employee.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The database under test: a throwaway embedded PostgreSQL, or an existing one given with
+ * {@code --jdbc-url}. Either way its schema is dropped and rebuilt by the application's
+ * migrations, the same ones production runs.
+ */
+final class LoadTestDatabase implements AutoCloseable {
+
+    private final EmbeddedPostgres embedded;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private LoadTestDatabase(EmbeddedPostgres embedded, String url, String username, String password) {
+        this.embedded = embedded;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    static LoadTestDatabase start(LoadTestOptions options) throws IOException {
+        if (options.jdbcUrl != null) {
+            return new LoadTestDatabase(null, options.jdbcUrl, options.jdbcUsername, options.jdbcPassword);
+        }
+        // Logging is not configured until the application starts; keep the server's output out of the report
+        ((Logger) LoggerFactory.getLogger("io.zonky")).setLevel(Level.WARN);
+        EmbeddedPostgres embedded = EmbeddedPostgres.builder().start();
+        return new LoadTestDatabase(embedded, embedded.getJdbcUrl("postgres", "postgres"), "postgres", "postgres");
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    String getUsername() {
+        return username;
+    }
+
+    String getPassword() {
+        return password;
+    }
+
+    Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    void resetSchema() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA public CASCADE");
+            statement.execute("CREATE SCHEMA public");
+        }
+        Flyway.configure().dataSource(url, username, password).load().migrate();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.employeeboard.employee.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of {@link LoadTest}, given as {@code --name=value}. Options the
+ * harness does not know are passed on to the application, so any application property
+ * (for example {@code --spring.threads.virtual.enabled=true}) can be varied between runs.
+ */
+final class LoadTestOptions {
+
+    static final List<String> ALL_SCENARIOS =
+            List.of("login-storm", "dashboard-poll", "roster-publish", "contended-writes", "payroll-export", "mixed");
+
+    int employees = 1000;
+    int shifts = 30000;
+    int users = 32;
+    int durationSeconds = 30;
+    int warmupSeconds = 10;
+    long seed = 42;
+    List<String> scenarios = ALL_SCENARIOS;
+    // Reset and seed this database instead of starting an embedded one
+    String jdbcUrl;
+    String jdbcUsername = "postgres";
+    String jdbcPassword = "";
+    String label = "unlabeled";
+    Path report = Path.of("target", "loadtest-report.json");
+    Path baseline;
+    // Largest tolerated p99 increase and throughput drop against the baseline, as a fraction
+    double maxRegression = 0.2;
+    final Map<String, String> applicationProperties = new LinkedHashMap<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "employees" -> options.employees = Integer.parseInt(value);
+                case "shifts" -> options.shifts = Integer.parseInt(value);
+                case "users" -> options.users = Integer.parseInt(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "scenarios" -> options.scenarios = scenarios(value);
+                case "jdbc-url" -> options.jdbcUrl = value;
+                case "jdbc-username" -> options.jdbcUsername = value;
+                case "jdbc-password" -> options.jdbcPassword = value;
+                case "label" -> options.label = value;
+                case "report" -> options.report = Path.of(value);
+                case "baseline" -> options.baseline = Path.of(value);
+                case "max-regression" -> options.maxRegression = Double.parseDouble(value);
+                default -> options.applicationProperties.put(name, value);
+            }
+        }
+        if (options.employees < 4) {
+            throw new IllegalArgumentException("At least 4 employees are needed");
+        }
+        return options;
+    }
+
+    private static List<String> scenarios(String value) {
+        List<String> scenarios = new ArrayList<>();
+        for (String scenario : value.split(",")) {
+            if (!ALL_SCENARIOS.contains(scenario.trim())) {
+                throw new IllegalArgumentException("Unknown scenario " + scenario + "; expected one of " + ALL_SCENARIOS);
+            }
+            scenarios.add(scenario.trim());
+        }
+        return scenarios;
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("employees", employees);
+        description.put("shifts", shifts);
+        description.put("users", users);
+        description.put("durationSeconds", durationSeconds);
+        description.put("warmupSeconds", warmupSeconds);
+        description.put("seed", seed);
+        description.put("scenarios", scenarios);
+        description.put("database", jdbcUrl != null ? "external" : "embedded");
+        description.put("applicationProperties", applicationProperties);
+        description.put("javaVersion", System.getProperty("java.version"));
+        description.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        return description;
+    }
+}
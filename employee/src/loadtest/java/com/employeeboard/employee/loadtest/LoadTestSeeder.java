@@ -0,0 +1,132 @@
+package com.employeeboard.employee.loadtest;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scales {@code DataSeeder}'s data up to {@code --employees} employees and {@code --shifts}
+ * shifts, written with batched JDBC inserts. Shifts rotate through early, late and night
+ * shifts, one per employee per day, centred on today so dashboard polls hit populated days.
+ */
+final class LoadTestSeeder {
+
+    private static final String[] DEPARTMENTS =
+            {"Engineering", "Operations", "Administration", "Sales", "Support", "Warehouse"};
+    private static final String[] FIRST_NAMES =
+            {"John", "Jane", "Bob", "Alice", "Maria", "David", "Priya", "Chen", "Fatima", "Lucas"};
+    private static final String[] LAST_NAMES =
+            {"Doe", "Smith", "Johnson", "Garcia", "Nguyen", "Patel", "Kim", "Müller", "Rossi", "Okafor"};
+    private static final LocalTime[][] ROTATION = {
+            {LocalTime.of(6, 0), LocalTime.of(14, 0)},
+            {LocalTime.of(14, 0), LocalTime.of(22, 0)},
+            {LocalTime.of(22, 0), LocalTime.of(6, 0)}
+    };
+    private static final int BATCH_SIZE = 1000;
+    // Leaves the ids used by database_reset.sql's sample rows alone
+    private static final long FIRST_SHIFT_ID = 1000;
+
+    private final LoadTestDatabase database;
+    private final LoadTestOptions options;
+
+    LoadTestSeeder(LoadTestDatabase database, LoadTestOptions options) {
+        this.database = database;
+        this.options = options;
+    }
+
+    SeedPlan seed() throws SQLException {
+        try (Connection connection = database.connect()) {
+            connection.setAutoCommit(false);
+            List<Long> employeeIds = insertEmployees(connection);
+            int days = Math.max(1, (options.shifts + employeeIds.size() - 1) / employeeIds.size());
+            LocalDate firstDay = LocalDate.now().minusDays(days / 2);
+            insertShifts(connection, employeeIds, firstDay);
+            connection.commit();
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT setval('shift_sequence', (SELECT MAX(id) FROM shifts) + 51)");
+                connection.commit();
+                connection.setAutoCommit(true);
+                statement.execute("ANALYZE");
+            }
+            return new SeedPlan(employeeIds, firstDay, firstDay.plusDays(days - 1));
+        }
+    }
+
+    private List<Long> insertEmployees(Connection connection) throws SQLException {
+        // Continues after DataSeeder's EMP001..EMP003
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO employees (name, employee_code, department) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < options.employees; i++) {
+                insert.setString(1, FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i / FIRST_NAMES.length % LAST_NAMES.length]);
+                insert.setString(2, String.format("EMP%03d", i + 4));
+                insert.setString(3, DEPARTMENTS[i % DEPARTMENTS.length]);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        List<Long> ids = new ArrayList<>(options.employees);
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT id FROM employees WHERE employee_code NOT IN ('EMP001', 'EMP002', 'EMP003') ORDER BY id")) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private void insertShifts(Connection connection, List<Long> employeeIds, LocalDate firstDay) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO shifts (id, employee_id, date, start_time, end_time) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < options.shifts; i++) {
+                int employee = i % employeeIds.size();
+                int day = i / employeeIds.size();
+                // A night shift ending at 06:00 is followed by an early shift starting at 06:00, which does not overlap
+                LocalTime[] times = ROTATION[(employee + day) % ROTATION.length];
+                insert.setLong(1, FIRST_SHIFT_ID + i);
+                insert.setLong(2, employeeIds.get(employee));
+                insert.setDate(3, Date.valueOf(firstDay.plusDays(day)));
+                insert.setTime(4, Time.valueOf(times[0]));
+                insert.setTime(5, Time.valueOf(times[1]));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * What was seeded: scenarios poll days inside {@code firstDay..lastDay} and create new
+     * shifts only after {@code lastDay}.
+     */
+    record SeedPlan(List<Long> employeeIds, LocalDate firstDay, LocalDate lastDay) {
+
+        LocalDate publishStart() {
+            return lastDay.plusDays(1);
+        }
+
+        // Far enough out that roster publishing never reaches it
+        LocalDate contendedStart() {
+            return lastDay.plusYears(10);
+        }
+
+        int seededDays() {
+            return (int) (lastDay.toEpochDay() - firstDay.toEpochDay()) + 1;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.employeeboard.employee.loadtest;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The request mixes replayed by {@link LoadTest}. Each scenario is one iteration of a
+ * closed loop: a virtual user sends the next request as soon as the previous one returns.
+ */
+final class Scenarios {
+
+    static final String LOGIN = "POST /api/auth/login";
+    static final String POLL = "GET /api/shifts?date=";
+    static final String PUBLISH = "POST /api/shifts";
+    static final String CONTENDED = "POST /api/shifts (contended)";
+    static final String PAYROLL = "GET /api/analytics/hours";
+
+    // Employees and days shared by every writer in contended-writes
+    static final int CONTENDED_EMPLOYEES = 4;
+    static final int CONTENDED_DAYS = 4;
+
+    private Scenarios() {
+    }
+
+    @FunctionalInterface
+    interface Scenario {
+        void iterate(VirtualUser user);
+    }
+
+    static Scenario named(String name, int users) {
+        return switch (name) {
+            case "login-storm" -> Scenarios::login;
+            case "dashboard-poll" -> Scenarios::poll;
+            case "roster-publish" -> user -> publish(user, users);
+            case "contended-writes" -> Scenarios::contendedWrite;
+            case "payroll-export" -> Scenarios::payrollExport;
+            // Shift change: mostly pollers, some publishing, people logging in
+            case "mixed" -> user -> {
+                int roll = user.random.nextInt(100);
+                if (roll < 5) {
+                    login(user);
+                } else if (roll < 20) {
+                    publish(user, users);
+                } else {
+                    poll(user);
+                }
+            };
+            default -> throw new IllegalArgumentException("Unknown scenario " + name);
+        };
+    }
+
+    private static void login(VirtualUser user) {
+        if (user.random.nextInt(10) == 0) {
+            user.client.postLogin(user.stats, "admin", "admin123");
+        } else {
+            user.client.postLogin(user.stats, "user", "user123");
+        }
+    }
+
+    /**
+     * A dashboard polling one day, sending back the ETag it got last time for that day.
+     */
+    private static void poll(VirtualUser user) {
+        LocalDate date = user.plan.firstDay().plusDays(user.random.nextInt(user.plan.seededDays()));
+        HttpResponse<String> response = user.client.get(user.stats, POLL, "/api/shifts?date=" + date,
+                user.token, user.etags.get(date));
+        if (response != null && response.statusCode() == 200) {
+            response.headers().firstValue("ETag").ifPresent(etag -> user.etags.put(date, etag));
+        }
+    }
+
+    /**
+     * Publishes the next free roster slot. Users walk disjoint slots (employee, day) after the
+     * seeded range, so every request is expected to succeed.
+     */
+    private static void publish(VirtualUser user, int users) {
+        long slot = user.index + user.published++ * users;
+        int employeeCount = user.plan.employeeIds().size();
+        Long employeeId = user.plan.employeeIds().get((int) (slot % employeeCount));
+        LocalDate date = user.plan.publishStart().plusDays(slot / employeeCount);
+        user.client.post(user.stats, PUBLISH, "/api/shifts", user.token, shift(employeeId, date, "09:00", "17:00"));
+    }
+
+    /**
+     * Every user races for the same few (employee, day) slots with shifts that overlap each
+     * other, so at most one shift per slot may be stored; everything else has to be refused.
+     */
+    private static void contendedWrite(VirtualUser user) {
+        int slot = user.random.nextInt(CONTENDED_EMPLOYEES * CONTENDED_DAYS);
+        Long employeeId = user.plan.employeeIds().get(slot % CONTENDED_EMPLOYEES);
+        LocalDate date = user.plan.contendedStart().plusDays(slot / CONTENDED_EMPLOYEES);
+        boolean late = user.random.nextBoolean();
+        user.client.post(user.stats, CONTENDED, "/api/shifts", user.token,
+                late ? shift(employeeId, date, "12:00", "20:00") : shift(employeeId, date, "08:00", "16:00"));
+    }
+
+    /**
+     * A payroll export pulling a week of hours, per employee or per department.
+     */
+    private static void payrollExport(VirtualUser user) {
+        LocalDate week = user.plan.firstDay().plusDays(user.random.nextInt(user.plan.seededDays()));
+        String groupBy = user.random.nextInt(4) == 0 ? "department" : "employee";
+        user.client.get(user.stats, PAYROLL, "/api/analytics/hours?from=" + week + "&groupBy=" + groupBy, user.token, null);
+    }
+
+    private static Map<String, Object> shift(Long employeeId, LocalDate date, String startTime, String endTime) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("employeeId", employeeId);
+        body.put("date", date.toString());
+        body.put("startTime", startTime);
+        body.put("endTime", endTime);
+        return body;
+    }
+}
@@ -0,0 +1,31 @@
+package com.employeeboard.employee.loadtest;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * One simulated client, driven by a single worker thread. Its state carries over between
+ * scenarios: each user keeps its own sequence of roster slots and the ETags it has seen.
+ */
+final class VirtualUser {
+
+    final int index;
+    final SplittableRandom random;
+    final LoadClient client;
+    final LoadTestSeeder.SeedPlan plan;
+    final String token;
+    final Map<LocalDate, String> etags = new HashMap<>();
+    LoadStats stats;
+    // Number of roster slots this user has published so far
+    long published;
+
+    VirtualUser(int index, long seed, LoadClient client, LoadTestSeeder.SeedPlan plan, String token) {
+        this.index = index;
+        this.random = new SplittableRandom(seed + index);
+        this.client = client;
+        this.plan = plan;
+        this.token = token;
+    }
+}
@@ -4,48 +4,70 @@ import com.employeeboard.employee.model.User;
 import com.employeeboard.employee.model.Employee;
 import com.employeeboard.employee.repository.UserRepository;
 import com.employeeboard.employee.repository.EmployeeRepository;
+import com.employeeboard.employee.service.ChangeTracker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates the default employees and users, then optionally a synthetic dataset (see
+ * {@link SyntheticDataSeeder}). Disabled with {@code seed.enabled=false}, as in production,
+ * in which case startup runs no seeding queries at all.
+ */
 @Configuration
 public class DataSeeder {
+
+    private static final List<Employee> DEFAULT_EMPLOYEES = List.of(
+            new Employee("John Doe", "EMP001", "Engineering"),
+            new Employee("Jane Smith", "EMP002", "Operations"),
+            new Employee("Bob Johnson", "EMP003", "Administration"));
+
+    // A runtime check rather than a bean condition, which an AOT-processed build would fix at build time
+    @Value("${seed.enabled:true}")
+    private boolean enabled;
+
     @Bean
-    CommandLineRunner seedUsers(UserRepository userRepository, EmployeeRepository employeeRepository, PasswordEncoder passwordEncoder) {
+    CommandLineRunner seedUsers(UserRepository userRepository, EmployeeRepository employeeRepository, PasswordEncoder passwordEncoder,
+                                ChangeTracker changeTracker, SyntheticDataSeeder syntheticDataSeeder) {
         return args -> {
-            // Create default employees
-            if (!employeeRepository.existsByEmployeeCode("EMP001")) {
-                Employee emp1 = new Employee("John Doe", "EMP001", "Engineering");
-                employeeRepository.save(emp1);
-                System.out.println("Employee created: John Doe, code=EMP001, dept=Engineering");
+            if (!enabled) {
+                return;
             }
-            
-            if (!employeeRepository.existsByEmployeeCode("EMP002")) {
-                Employee emp2 = new Employee("Jane Smith", "EMP002", "Operations");
-                employeeRepository.save(emp2);
-                System.out.println("Employee created: Jane Smith, code=EMP002, dept=Operations");
+            // One query for all default employees and one for all default users
+            Set<String> existingCodes = employeeRepository.findExistingCodes(
+                    DEFAULT_EMPLOYEES.stream().map(Employee::getEmployeeCode).toList());
+            List<Employee> employees = DEFAULT_EMPLOYEES.stream()
+                    .filter(employee -> !existingCodes.contains(employee.getEmployeeCode()))
+                    .map(employee -> new Employee(employee.getName(), employee.getEmployeeCode(), employee.getDepartment()))
+                    .toList();
+            if (!employees.isEmpty()) {
+                employeeRepository.saveAll(employees);
+                employees.forEach(employee -> System.out.println("Employee created: " + employee.getName()
+                        + ", code=" + employee.getEmployeeCode() + ", dept=" + employee.getDepartment()));
+                // Seeded rows bypass EmployeeService, so move the employees ETag on explicitly
+                changeTracker.employeesChanged();
             }
-            
-            if (!employeeRepository.existsByEmployeeCode("EMP003")) {
-                Employee emp3 = new Employee("Bob Johnson", "EMP003", "Administration");
-                employeeRepository.save(emp3);
-                System.out.println("Employee created: Bob Johnson, code=EMP003, dept=Administration");
+
+            Set<String> existingUsernames = userRepository.findExistingUsernames(List.of("admin", "user"));
+            List<User> users = new ArrayList<>();
+            if (!existingUsernames.contains("admin")) {
+                users.add(new User("admin", passwordEncoder.encode("admin123"), "ADMIN", "admin@employeeshift.com", "Admin User"));
             }
-            
-            // Create admin user
-            if (!userRepository.existsByUsername("admin")) {
-                User admin = new User("admin", passwordEncoder.encode("admin123"), "ADMIN", "admin@employeeshift.com", "Admin User");
-                userRepository.save(admin);
-                System.out.println("Admin user created: username=admin, password=admin123");
+            if (!existingUsernames.contains("user")) {
+                users.add(new User("user", passwordEncoder.encode("user123"), "USER", "user@employeeshift.com", "Regular User"));
             }
-            
-            // Create regular user
-            if (!userRepository.existsByUsername("user")) {
-                User user = new User("user", passwordEncoder.encode("user123"), "USER", "user@employeeshift.com", "Regular User");
-                userRepository.save(user);
-                System.out.println("Regular user created: username=user, password=user123");
+            if (!users.isEmpty()) {
+                userRepository.saveAll(users);
+                users.forEach(user -> System.out.println("User created: username=" + user.getUsername() + ", role=" + user.getRole()));
             }
+
+            syntheticDataSeeder.seed();
         };
     }
 }
@@ -0,0 +1,221 @@
+package com.employeeboard.employee;
+
+import com.employeeboard.employee.service.ChangeTracker;
+import com.employeeboard.employee.service.LaborAnalyticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Generates {@code seed.synthetic.employees} employees (codes {@code SYN000001}, ...) across
+ * departments, each with a shift history covering {@code seed.synthetic.history-days} up to
+ * {@code seed.synthetic.future-days} ahead. Every shift is at least 4 hours, one per employee
+ * per day, and never overlaps the next day's shift.
+ *
+ * <p>Employees are written in chunks of {@code seed.synthetic.chunk-size}, each chunk with its
+ * shifts in one transaction of batched inserts, on {@code seed.synthetic.threads} threads.
+ * Data depends only on the employee number and {@code seed.synthetic.random-seed}, and a chunk
+ * whose last employee exists is skipped, so a rerun or a restart after a failure only fills
+ * in what is missing.
+ */
+@Component
+public class SyntheticDataSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataSeeder.class);
+
+    private static final String CODE_FORMAT = "SYN%06d";
+
+    private static final String INSERT_EMPLOYEE_SQL =
+            "INSERT INTO employees (name, employee_code, department, version) VALUES (?, ?, ?, 0) " +
+            "ON CONFLICT (employee_code) DO NOTHING";
+
+    private static final String SELECT_EMPLOYEE_IDS_SQL =
+            "SELECT employee_code, id FROM employees WHERE employee_code BETWEEN ? AND ?";
+
+    // Ids come from the entity's sequence; conflicts with shifts created meanwhile are skipped
+    private static final String INSERT_SHIFT_SQL =
+            "INSERT INTO shifts (id, employee_id, date, start_time, end_time, version) " +
+            "VALUES (nextval('shift_sequence'), ?, ?, ?, ?, 0) ON CONFLICT DO NOTHING";
+
+    private static final String[] DEPARTMENTS =
+            {"Operations", "Operations", "Operations", "Warehouse", "Warehouse", "Support", "Sales", "Engineering",
+             "Administration", "Finance"};
+    private static final String[] FIRST_NAMES =
+            {"John", "Jane", "Bob", "Alice", "Maria", "David", "Priya", "Chen", "Fatima", "Lucas", "Sara", "Omar",
+             "Yuki", "Elena", "Kwame", "Noah"};
+    private static final String[] LAST_NAMES =
+            {"Doe", "Smith", "Johnson", "Garcia", "Nguyen", "Patel", "Kim", "Müller", "Rossi", "Okafor", "Silva",
+             "Cohen", "Tanaka", "Novak", "Mensah", "Brown"};
+    // Day shifts start at 06:00 or later and night shifts end by 06:00, so consecutive days never overlap
+    private static final LocalTime[][] SHIFT_TEMPLATES = {
+            {LocalTime.of(6, 0), LocalTime.of(14, 0)},
+            {LocalTime.of(9, 0), LocalTime.of(17, 0)},
+            {LocalTime.of(14, 0), LocalTime.of(22, 0)},
+            {LocalTime.of(22, 0), LocalTime.of(6, 0)},
+            {LocalTime.of(10, 0), LocalTime.of(14, 0)},
+            {LocalTime.of(7, 0), LocalTime.of(17, 0)}
+    };
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ChangeTracker changeTracker;
+
+    @Autowired
+    private LaborAnalyticsService laborAnalytics;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${seed.synthetic.employees:0}")
+    private int employees;
+
+    @Value("${seed.synthetic.history-days:730}")
+    private int historyDays;
+
+    @Value("${seed.synthetic.future-days:28}")
+    private int futureDays;
+
+    @Value("${seed.synthetic.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${seed.synthetic.threads:4}")
+    private int threads;
+
+    @Value("${seed.synthetic.random-seed:42}")
+    private long randomSeed;
+
+    public void seed() throws InterruptedException {
+        if (employees <= 0) {
+            return;
+        }
+        LocalDate firstDay = LocalDate.now().minusDays(historyDays);
+        LocalDate lastDay = LocalDate.now().plusDays(futureDays);
+        int chunks = (employees + chunkSize - 1) / chunkSize;
+        log.info("Seeding {} synthetic employees with shifts from {} to {} in {} chunks", employees, firstDay, lastDay, chunks);
+
+        long started = System.currentTimeMillis();
+        AtomicInteger seededChunks = new AtomicInteger();
+        AtomicInteger seededShifts = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int from = chunk * chunkSize + 1;
+                int to = Math.min(employees, from + chunkSize - 1);
+                results.add(executor.submit(() -> {
+                    int shifts = seedChunk(from, to, firstDay, lastDay);
+                    if (shifts >= 0) {
+                        seededChunks.incrementAndGet();
+                        seededShifts.addAndGet(shifts);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Synthetic seeding failed; restart to resume", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (seededChunks.get() > 0) {
+            afterSeeding(firstDay, lastDay);
+        }
+        log.info("Synthetic seeding done in {} ms: {} of {} chunks written, {} shifts",
+                System.currentTimeMillis() - started, seededChunks.get(), chunks, seededShifts.get());
+    }
+
+    /**
+     * Writes employees {@code from..to} and their shifts in one transaction and returns the
+     * number of shifts written, or -1 if the chunk was already there.
+     */
+    private int seedChunk(int from, int to, LocalDate firstDay, LocalDate lastDay) {
+        return transactionTemplate.execute(status -> {
+            Integer done = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM employees WHERE employee_code = ?", Integer.class, code(to));
+            if (done != null && done > 0) {
+                return -1;
+            }
+
+            List<Object[]> employeeRows = new ArrayList<>(to - from + 1);
+            for (int number = from; number <= to; number++) {
+                employeeRows.add(new Object[] {name(number), code(number), DEPARTMENTS[number % DEPARTMENTS.length]});
+            }
+            jdbcTemplate.batchUpdate(INSERT_EMPLOYEE_SQL, employeeRows);
+
+            Map<String, Long> ids = jdbcTemplate.query(SELECT_EMPLOYEE_IDS_SQL,
+                    (rs, row) -> Map.entry(rs.getString(1), rs.getLong(2)), code(from), code(to))
+                    .stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+            int written = 0;
+            List<Object[]> shiftRows = new ArrayList<>(BATCH_SIZE);
+            for (int number = from; number <= to; number++) {
+                Long employeeId = ids.get(code(number));
+                SplittableRandom random = new SplittableRandom(randomSeed * 31 + number);
+                int usual = random.nextInt(SHIFT_TEMPLATES.length);
+                for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                    // About five shifts a week, mostly the employee's usual one
+                    if (random.nextInt(7) >= 5) {
+                        continue;
+                    }
+                    LocalTime[] shift = SHIFT_TEMPLATES[random.nextInt(5) == 0 ? random.nextInt(SHIFT_TEMPLATES.length) : usual];
+                    shiftRows.add(new Object[] {employeeId, Date.valueOf(day), Time.valueOf(shift[0]), Time.valueOf(shift[1])});
+                    if (shiftRows.size() == BATCH_SIZE) {
+                        jdbcTemplate.batchUpdate(INSERT_SHIFT_SQL, shiftRows);
+                        written += shiftRows.size();
+                        shiftRows.clear();
+                    }
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_SHIFT_SQL, shiftRows);
+            return written + shiftRows.size();
+        });
+    }
+
+    private void afterSeeding(LocalDate firstDay, LocalDate lastDay) {
+        // Rows written over JDBC bypass the services: move the ETags on, drop cached queries
+        // and recompute the analytics aggregates
+        changeTracker.employeesChanged();
+        changeTracker.shiftsChanged(firstDay.datesUntil(lastDay.plusDays(1)).toList());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        laborAnalytics.rebuild(firstDay, lastDay);
+        jdbcTemplate.execute("ANALYZE employees, shifts");
+    }
+
+    private static String code(int number) {
+        return String.format(CODE_FORMAT, number);
+    }
+
+    private static String name(int number) {
+        return FIRST_NAMES[number % FIRST_NAMES.length] + " " + LAST_NAMES[number / FIRST_NAMES.length % LAST_NAMES.length];
+    }
+}
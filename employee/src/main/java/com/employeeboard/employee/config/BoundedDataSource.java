@@ -0,0 +1,105 @@
+package com.employeeboard.employee.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits callers to the connection pool first-come first-served, at most one per pooled
+ * connection, with a bounded number of waiters and a bounded wait. With virtual threads
+ * there is no request thread pool to limit concurrency, so without this thousands of
+ * requests would queue inside the pool until its connection timeout.
+ */
+public class BoundedDataSource extends DelegatingDataSource {
+
+    // Lets Hibernate and Spring classify the failure as a connection problem
+    private static final String CONNECTION_FAILURE_STATE = "08001";
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final int maxWaiters;
+    private final long timeoutMillis;
+
+    public BoundedDataSource(DataSource target, int maxConnections, int maxWaiters, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWaiters = maxWaiters;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasing(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasing(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    private void acquire() throws SQLException {
+        if (waiting.incrementAndGet() > maxWaiters) {
+            waiting.decrementAndGet();
+            throw new SQLTransientConnectionException(
+                    "Too many requests waiting for a database connection", CONNECTION_FAILURE_STATE);
+        }
+        try {
+            // The timed variant also honours fairness when a permit is free right away
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + timeoutMillis + "ms waiting for a database connection", CONNECTION_FAILURE_STATE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection",
+                    CONNECTION_FAILURE_STATE, e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private Connection releasing(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,21 @@
+package com.employeeboard.employee.config;
+
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Serves {@code application/cbor} with the {@link CBORMapper} Spring Boot builds, so CBOR
+ * responses get the same modules and settings as JSON ones. The converter Spring registers
+ * on its own uses a bare mapper.
+ */
+@Configuration
+public class CborConverterConfig {
+
+    @Bean
+    ServerHttpMessageConvertersCustomizer cborConverter(CBORMapper cborMapper) {
+        return builder -> builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+}
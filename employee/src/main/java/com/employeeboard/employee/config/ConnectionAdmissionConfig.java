@@ -0,0 +1,49 @@
+package com.employeeboard.employee.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Puts the pooled {@link DataSource} behind a {@link BoundedDataSource}. Enabled by default
+ * together with virtual threads ({@code spring.threads.virtual.enabled}). The flag is read
+ * when the data source is created, not as a bean condition, so it still applies to an
+ * AOT-processed build.
+ */
+@Configuration
+public class ConnectionAdmissionConfig {
+
+    @Bean
+    static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource
+                        || !environment.getProperty("datasource.admission.enabled", Boolean.class, false)) {
+                    return bean;
+                }
+                return new BoundedDataSource(dataSource,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10),
+                        environment.getProperty("datasource.admission.max-waiters", Integer.class, 200),
+                        environment.getProperty("datasource.admission.timeout", Long.class, 5000L));
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionAdmissionMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(BoundedDataSource.class)) {
+            return registry -> { };
+        }
+        BoundedDataSource bounded = dataSource.unwrap(BoundedDataSource.class);
+        return registry -> Gauge.builder("datasource.admission.waiting", bounded, BoundedDataSource::getWaiting)
+                .description("Callers waiting for a database connection permit")
+                .register(registry);
+    }
+}
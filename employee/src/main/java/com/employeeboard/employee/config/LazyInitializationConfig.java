@@ -0,0 +1,28 @@
+package com.employeeboard.employee.config;
+
+import com.employeeboard.employee.service.CoverageFolder;
+import com.employeeboard.employee.service.OutboxDispatcher;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Beans created at startup even with {@code spring.main.lazy-initialization=true} (the
+ * {@code fast-start} profile). Without this Hibernate would bootstrap inside the first
+ * request instead of before the instance reports ready, change events left by a previous
+ * run would wait for the first write, and nothing would fold the coverage deltas.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class, EntityManagerFactory.class, AbstractEntityManagerFactoryBean.class,
+                OutboxDispatcher.class, CoverageFolder.class);
+    }
+}
@@ -0,0 +1,148 @@
+package com.employeeboard.employee.config;
+
+import com.employeeboard.employee.dto.AuthResponse;
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hand-written serialisers for the types returned in bulk: every shift and employee listing
+ * and every login. Field names are encoded once up front and values are written straight to
+ * the response generator, so no bean introspection or intermediate tree is involved. The
+ * output is the same document the default serialisers produce, field order included, in
+ * JSON as well as CBOR (Spring Boot registers module beans with both mappers). Fields added
+ * to these classes have to be added here too.
+ */
+@Component
+public class ResponseSerializers extends SimpleModule {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString EMPLOYEE_ID = new SerializedString("employeeId");
+    private static final SerializableString DATE = new SerializedString("date");
+    private static final SerializableString START_TIME = new SerializedString("startTime");
+    private static final SerializableString END_TIME = new SerializedString("endTime");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString EMPLOYEE_CODE = new SerializedString("employeeCode");
+    private static final SerializableString DEPARTMENT = new SerializedString("department");
+    private static final SerializableString TOKEN = new SerializedString("token");
+    private static final SerializableString TYPE = new SerializedString("type");
+    private static final SerializableString ROLE = new SerializedString("role");
+    private static final SerializableString USERNAME = new SerializedString("username");
+    private static final SerializableString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializableString EXPIRES_IN = new SerializedString("expiresIn");
+
+    public ResponseSerializers() {
+        super("ResponseSerializers");
+        addSerializer(Shift.class, new ShiftSerializer());
+        addSerializer(Employee.class, new EmployeeSerializer());
+        addSerializer(AuthResponse.class, new AuthResponseSerializer());
+    }
+
+    static final class ShiftSerializer extends ValueSerializer<Shift> {
+
+        @Override
+        public void serialize(Shift shift, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject(shift, 6);
+            writeNumber(gen, EMPLOYEE_ID, shift.getEmployeeId());
+            writeDate(gen, DATE, shift.getDate());
+            writeTime(gen, START_TIME, shift.getStartTime());
+            writeTime(gen, END_TIME, shift.getEndTime());
+            writeNumber(gen, ID, shift.getId());
+            writeNumber(gen, VERSION, shift.getVersion());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class EmployeeSerializer extends ValueSerializer<Employee> {
+
+        @Override
+        public void serialize(Employee employee, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject(employee, 5);
+            writeString(gen, NAME, employee.getName());
+            writeString(gen, EMPLOYEE_CODE, employee.getEmployeeCode());
+            writeString(gen, DEPARTMENT, employee.getDepartment());
+            writeNumber(gen, ID, employee.getId());
+            writeNumber(gen, VERSION, employee.getVersion());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class AuthResponseSerializer extends ValueSerializer<AuthResponse> {
+
+        @Override
+        public void serialize(AuthResponse response, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject(response, 6);
+            gen.writeName(EXPIRES_IN);
+            gen.writeNumber(response.getExpiresIn());
+            writeString(gen, REFRESH_TOKEN, response.getRefreshToken());
+            writeString(gen, ROLE, response.getRole());
+            writeString(gen, TOKEN, response.getToken());
+            writeString(gen, TYPE, response.getType());
+            writeString(gen, USERNAME, response.getUsername());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Long value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) {
+        gen.writeName(name);
+        gen.writeString(value);
+    }
+
+    // Dates and times are written as ISO-8601 from a small char buffer: going through
+    // DateTimeFormatter costs far more allocation than the rest of a row
+    private static void writeDate(JsonGenerator gen, SerializableString name, LocalDate value) {
+        gen.writeName(name);
+        if (value == null || value.getYear() < 0 || value.getYear() > 9999) {
+            gen.writeString(value != null ? value.toString() : null);
+            return;
+        }
+        char[] buffer = new char[10];
+        digits(buffer, 0, value.getYear() / 100);
+        digits(buffer, 2, value.getYear() % 100);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth());
+        gen.writeString(buffer, 0, 10);
+    }
+
+    private static void writeTime(JsonGenerator gen, SerializableString name, LocalTime value) {
+        gen.writeName(name);
+        if (value == null || value.getNano() != 0) {
+            gen.writeString(value != null ? DateTimeFormatter.ISO_LOCAL_TIME.format(value) : null);
+            return;
+        }
+        char[] buffer = new char[8];
+        digits(buffer, 0, value.getHour());
+        buffer[2] = ':';
+        digits(buffer, 3, value.getMinute());
+        buffer[5] = ':';
+        digits(buffer, 6, value.getSecond());
+        gen.writeString(buffer, 0, 8);
+    }
+
+    private static void digits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
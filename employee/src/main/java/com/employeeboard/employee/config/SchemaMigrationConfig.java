@@ -0,0 +1,31 @@
+package com.employeeboard.employee.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies the migrations in {@code db/migration} on startup unless
+ * {@code database.migrate-on-startup=false}, e.g. for instances started after a release step
+ * has already migrated. Checked here rather than with {@code spring.flyway.enabled} because
+ * an AOT-processed build fixes which beans exist at build time.
+ */
+@Configuration
+public class SchemaMigrationConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrationConfig.class);
+
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(@Value("${database.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                log.info("Skipping schema migrations (database.migrate-on-startup=false)");
+            }
+        };
+    }
+}
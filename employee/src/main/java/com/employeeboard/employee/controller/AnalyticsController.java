@@ -0,0 +1,52 @@
+package com.employeeboard.employee.controller;
+
+import com.employeeboard.employee.dto.DepartmentCoverage;
+import com.employeeboard.employee.service.CollectionVersion;
+import com.employeeboard.employee.service.LaborAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private LaborAnalyticsService laborAnalytics;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/hours")
+    public ResponseEntity<List<?>> getHours(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String department,
+            WebRequest webRequest) {
+        CollectionVersion version = laborAnalytics.getHoursVersion(from, to);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ConditionalResponses.ok(version).body(laborAnalytics.getHours(from, to, groupBy, department));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping("/coverage")
+    public ResponseEntity<List<DepartmentCoverage>> getCoverage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String department,
+            WebRequest webRequest) {
+        CollectionVersion version = laborAnalytics.getCoverageVersion(from, to);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ConditionalResponses.ok(version).body(laborAnalytics.getCoverage(from, to, department));
+    }
+}
@@ -2,12 +2,17 @@ package com.employeeboard.employee.controller;
 
 import com.employeeboard.employee.dto.AuthResponse;
 import com.employeeboard.employee.dto.LoginRequest;
+import com.employeeboard.employee.dto.RefreshRequest;
 import com.employeeboard.employee.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
@@ -16,9 +21,30 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Value("${jwt.header.name}")
+    private String headerName;
+
+    @Value("${jwt.token.prefix}")
+    private String tokenPrefix;
+
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.authenticate(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+        return authService.authenticateAsync(request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest httpRequest,
+                                       @RequestBody(required = false) RefreshRequest request) {
+        String authorization = httpRequest.getHeader(headerName);
+        String accessToken = authorization != null && authorization.startsWith(tokenPrefix)
+                ? authorization.substring(tokenPrefix.length())
+                : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,24 @@
+package com.employeeboard.employee.controller;
+
+import com.employeeboard.employee.service.CacheStatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "*")
+public class CacheStatisticsController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Long>>> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+}
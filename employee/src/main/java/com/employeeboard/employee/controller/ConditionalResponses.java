@@ -0,0 +1,28 @@
+package com.employeeboard.employee.controller;
+
+import com.employeeboard.employee.service.CollectionVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Response headers for reads that support conditional GETs. {@code no-cache} lets clients
+ * keep the body but makes them revalidate every time, and keeps Spring Security from
+ * adding its default {@code no-store}. The same version is served as JSON, CBOR or columns,
+ * so caches have to key on {@code Accept}.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {}
+
+    static ResponseEntity.BodyBuilder ok(CollectionVersion version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(version.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT);
+        if (version.getLastModified() > 0) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder;
+    }
+}
@@ -1,14 +1,24 @@
 package com.employeeboard.employee.controller;
 
+import com.employeeboard.employee.dto.BulkImportResponse;
+import com.employeeboard.employee.dto.CursorPage;
+import com.employeeboard.employee.dto.EmployeeColumns;
 import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.service.CollectionVersion;
 import com.employeeboard.employee.service.EmployeeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -18,18 +28,68 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @GetMapping
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<List<Employee>> getAllEmployees(WebRequest webRequest) {
+        // The version is read before the rows, so a concurrent change can only make the tag stale, never wrong
+        CollectionVersion version = employeeService.getEmployeesVersion();
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ConditionalResponses.ok(version).body(employeeService.getAllEmployees());
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping(produces = EmployeeColumns.MEDIA_TYPE)
+    public ResponseEntity<EmployeeColumns> getEmployeeColumns(WebRequest webRequest) {
+        CollectionVersion version = employeeService.getEmployeesVersion();
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ConditionalResponses.ok(version)
+                .contentType(MediaType.parseMediaType(EmployeeColumns.MEDIA_TYPE))
+                .body(EmployeeColumns.of(employeeService.getAllEmployees()));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<Employee>> getEmployeesPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit) {
+        return ResponseEntity.ok(employeeService.getEmployeesPage(after, limit));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping(produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        StreamingResponseBody body = out -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+            employeeService.streamEmployees(writer);
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .body(body);
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @GetMapping("/{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id) {
-        return employeeService.getEmployeeById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<Employee> employee = employeeService.getEmployeeById(id);
+        if (employee.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = "\"employee-" + id + "-" + employee.get().getVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(employee.get());
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -38,6 +98,18 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.createEmployee(employee));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResponse> importEmployees(
+            @RequestBody List<Employee> employees,
+            @RequestParam(defaultValue = "false") boolean allOrNothing) {
+        BulkImportResponse response = employeeService.importEmployees(employees, allOrNothing);
+        if (response.isAllOrNothing() && response.getRejected() > 0) {
+            return ResponseEntity.badRequest().body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable Long id, @Valid @RequestBody Employee employee) {
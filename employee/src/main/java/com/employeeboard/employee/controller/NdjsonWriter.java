@@ -0,0 +1,48 @@
+package com.employeeboard.employee.controller;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * Writes one JSON document per line, flushing periodically so rows reach the client
+ * while the database cursor is still open. Rows go through one generator on the response
+ * stream rather than being serialised to a byte array each.
+ */
+class NdjsonWriter implements Consumer<Object> {
+
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final JsonGenerator generator;
+    private int pending;
+
+    NdjsonWriter(ObjectMapper objectMapper, OutputStream out) {
+        // Newlines are written here, and flushing is left to accept() and finish()
+        this.generator = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator((String) null)
+                .createGenerator(new BufferedOutputStream(out, 64 * 1024));
+    }
+
+    @Override
+    public void accept(Object row) {
+        generator.writePOJO(row);
+        generator.writeRaw('\n');
+        if (++pending >= FLUSH_EVERY) {
+            generator.flush();
+            pending = 0;
+        }
+    }
+
+    void finish() {
+        generator.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.employeeboard.employee.controller;
+
+import com.employeeboard.employee.dto.RosterWeek;
+import com.employeeboard.employee.service.CollectionVersion;
+import com.employeeboard.employee.service.RosterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/roster")
+@CrossOrigin(origins = "*")
+public class RosterController {
+
+    @Autowired
+    private RosterService rosterService;
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping
+    public ResponseEntity<RosterWeek> getWeek(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week,
+            WebRequest webRequest) {
+        LocalDate day = week != null ? week : LocalDate.now();
+        CollectionVersion version = rosterService.getWeekVersion(day);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ConditionalResponses.ok(version).body(rosterService.getWeek(day, version));
+    }
+}
@@ -0,0 +1,42 @@
+package com.employeeboard.employee.controller;
+
+import com.employeeboard.employee.dto.ScheduleJob;
+import com.employeeboard.employee.dto.ScheduleRequest;
+import com.employeeboard.employee.service.ScheduleService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/schedules")
+@CrossOrigin(origins = "*")
+public class ScheduleController {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping
+    public ResponseEntity<ScheduleJob> generate(@Valid @RequestBody ScheduleRequest request) {
+        ScheduleJob job = scheduleService.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/schedules/" + job.getId()))
+                .body(job);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}")
+    public ResponseEntity<ScheduleJob> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(scheduleService.getJob(id));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ScheduleJob> cancel(@PathVariable String id) {
+        return ResponseEntity.ok(scheduleService.cancel(id));
+    }
+}
@@ -1,14 +1,24 @@
 package com.employeeboard.employee.controller;
 
+import com.employeeboard.employee.dto.BulkImportResponse;
+import com.employeeboard.employee.dto.CursorPage;
+import com.employeeboard.employee.dto.ShiftColumns;
 import com.employeeboard.employee.dto.ShiftRequest;
 import com.employeeboard.employee.model.Shift;
+import com.employeeboard.employee.service.BoardEventBroadcaster;
+import com.employeeboard.employee.service.CollectionVersion;
 import com.employeeboard.employee.service.ShiftService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,16 +31,104 @@ public class ShiftController {
     @Autowired
     private ShiftService shiftService;
 
+    @Autowired
+    private BoardEventBroadcaster boardEvents;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
     public ResponseEntity<Shift> createShift(@Valid @RequestBody ShiftRequest request) {
         return ResponseEntity.ok(shiftService.createShift(request));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResponse> importShifts(
+            @RequestBody List<ShiftRequest> requests,
+            @RequestParam(defaultValue = "false") boolean allOrNothing) {
+        return bulkResponse(shiftService.importShifts(requests, allOrNothing));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResponse> importShiftsCsv(
+            @RequestBody String csv,
+            @RequestParam(defaultValue = "false") boolean allOrNothing) {
+        return bulkResponse(shiftService.importShiftsCsv(csv, allOrNothing));
+    }
+
     @GetMapping
     public ResponseEntity<List<Shift>> getShifts(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        return ResponseEntity.ok(shiftService.getShifts(date));
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) String department,
+            WebRequest webRequest) {
+        if (date != null) {
+            from = date;
+            to = date;
+        }
+        CollectionVersion version = shiftService.getShiftsVersion(from, to, department);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ConditionalResponses.ok(version).body(shiftService.getShifts(from, to, employeeId, department));
+    }
+
+    @GetMapping(produces = ShiftColumns.MEDIA_TYPE)
+    public ResponseEntity<ShiftColumns> getShiftColumns(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) String department,
+            WebRequest webRequest) {
+        if (date != null) {
+            from = date;
+            to = date;
+        }
+        CollectionVersion version = shiftService.getShiftsVersion(from, to, department);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ConditionalResponses.ok(version)
+                .contentType(MediaType.parseMediaType(ShiftColumns.MEDIA_TYPE))
+                .body(ShiftColumns.of(shiftService.getShifts(from, to, employeeId, department)));
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<Shift>> getShiftsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) String department) {
+        return ResponseEntity.ok(shiftService.getShiftsPage(after, limit, from, to, employeeId, department));
+    }
+
+    @GetMapping(produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamShifts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) String department) {
+        StreamingResponseBody body = out -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+            shiftService.streamShifts(from, to, employeeId, department, writer);
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoardEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return boardEvents.subscribe(lastEventId);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -39,4 +137,11 @@ public class ShiftController {
         shiftService.deleteShift(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<BulkImportResponse> bulkResponse(BulkImportResponse response) {
+        if (response.isAllOrNothing() && response.getRejected() > 0) {
+            return ResponseEntity.badRequest().body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
 }
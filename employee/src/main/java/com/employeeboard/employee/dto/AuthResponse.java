@@ -6,6 +6,8 @@ public class AuthResponse {
     private String type = "Bearer";
     private String role;
     private String username;
+    private String refreshToken;
+    private long expiresIn;
 
     public AuthResponse() {
     }
@@ -16,6 +18,12 @@ public class AuthResponse {
         this.username = username;
     }
 
+    public AuthResponse(String token, String role, String username, String refreshToken, long expiresIn) {
+        this(token, role, username);
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
     public String getToken() {
         return token;
     }
@@ -47,4 +55,21 @@ public class AuthResponse {
     public void setUsername(String username) {
         this.username = username;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // Seconds until the access token expires
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
 }
@@ -0,0 +1,58 @@
+package com.employeeboard.employee.dto;
+
+import java.util.List;
+
+public class BulkImportResponse {
+
+    private int created;
+    private int rejected;
+    private boolean allOrNothing;
+    private List<BulkRowResult> results;
+
+    public BulkImportResponse() {
+    }
+
+    public BulkImportResponse(List<BulkRowResult> results, boolean allOrNothing) {
+        this.results = results;
+        this.allOrNothing = allOrNothing;
+        for (BulkRowResult result : results) {
+            if (BulkRowResult.CREATED.equals(result.getStatus())) {
+                created++;
+            } else {
+                rejected++;
+            }
+        }
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public boolean isAllOrNothing() {
+        return allOrNothing;
+    }
+
+    public void setAllOrNothing(boolean allOrNothing) {
+        this.allOrNothing = allOrNothing;
+    }
+
+    public List<BulkRowResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkRowResult> results) {
+        this.results = results;
+    }
+}
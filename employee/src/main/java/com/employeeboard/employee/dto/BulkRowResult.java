@@ -0,0 +1,62 @@
+package com.employeeboard.employee.dto;
+
+public class BulkRowResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private int row;
+    private String status;
+    private Long id;
+    private String error;
+
+    public BulkRowResult() {
+    }
+
+    public BulkRowResult(int row, String status, Long id, String error) {
+        this.row = row;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static BulkRowResult created(int row, Long id) {
+        return new BulkRowResult(row, CREATED, id, null);
+    }
+
+    public static BulkRowResult rejected(int row, String error) {
+        return new BulkRowResult(row, REJECTED, null, error);
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,88 @@
+package com.employeeboard.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+/**
+ * One row of the change outbox as handed to the sinks. {@code id} increases with every event
+ * and is the key consumers deduplicate on: delivery is at least once. {@code payload} is the
+ * JSON of the shift or employee as it was written (or, for deletions, as it was before).
+ */
+public class ChangeEvent {
+
+    public static final String SHIFT_CREATED = "shift-created";
+    public static final String SHIFT_DELETED = "shift-deleted";
+    public static final String EMPLOYEE_CREATED = "employee-created";
+    public static final String EMPLOYEE_UPDATED = "employee-updated";
+    public static final String EMPLOYEE_DELETED = "employee-deleted";
+
+    private long id;
+    private String type;
+    private long employeeId;
+    private long entityId;
+    private Instant occurredAt;
+    private String payload;
+
+    public ChangeEvent() {
+    }
+
+    public ChangeEvent(long id, String type, long employeeId, long entityId, Instant occurredAt, String payload) {
+        this.id = id;
+        this.type = type;
+        this.employeeId = employeeId;
+        this.entityId = entityId;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    // The shift id for shift events, the employee id for employee events
+    public long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @JsonRawValue
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+}
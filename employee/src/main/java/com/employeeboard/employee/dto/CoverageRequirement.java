@@ -0,0 +1,54 @@
+package com.employeeboard.employee.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * {@code headcount} employees of {@code department} working {@code startTime}-{@code endTime}
+ * on each of {@code days} (every day when empty).
+ */
+public class CoverageRequirement {
+    @NotBlank(message = "Department is required")
+    private String department;
+
+    @NotNull(message = "Start time is required")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    private LocalTime endTime;
+
+    @Min(value = 1, message = "Headcount must be at least 1")
+    private int headcount = 1;
+
+    private List<DayOfWeek> days;
+
+    public CoverageRequirement() {}
+
+    public CoverageRequirement(String department, LocalTime startTime, LocalTime endTime, int headcount, List<DayOfWeek> days) {
+        this.department = department;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.headcount = headcount;
+        this.days = days;
+    }
+
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public int getHeadcount() { return headcount; }
+    public void setHeadcount(int headcount) { this.headcount = headcount; }
+
+    public List<DayOfWeek> getDays() { return days; }
+    public void setDays(List<DayOfWeek> days) { this.days = days; }
+}
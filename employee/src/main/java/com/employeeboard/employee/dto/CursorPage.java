@@ -0,0 +1,43 @@
+package com.employeeboard.employee.dto;
+
+import java.util.List;
+
+public class CursorPage<T> {
+
+    private List<T> items;
+    private Long nextAfter;
+    private int limit;
+
+    public CursorPage() {
+    }
+
+    public CursorPage(List<T> items, Long nextAfter, int limit) {
+        this.items = items;
+        this.nextAfter = nextAfter;
+        this.limit = limit;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public Long getNextAfter() {
+        return nextAfter;
+    }
+
+    public void setNextAfter(Long nextAfter) {
+        this.nextAfter = nextAfter;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
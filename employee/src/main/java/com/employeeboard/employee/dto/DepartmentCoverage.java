@@ -0,0 +1,44 @@
+package com.employeeboard.employee.dto;
+
+import java.time.LocalDate;
+
+public class DepartmentCoverage {
+
+    private LocalDate date;
+    private String department;
+    // Employees on shift during each hour of the day, index 0 being 00:00-01:00
+    private int[] headcount;
+
+    public DepartmentCoverage() {
+    }
+
+    public DepartmentCoverage(LocalDate date, String department, int[] headcount) {
+        this.date = date;
+        this.department = department;
+        this.headcount = headcount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public int[] getHeadcount() {
+        return headcount;
+    }
+
+    public void setHeadcount(int[] headcount) {
+        this.headcount = headcount;
+    }
+}
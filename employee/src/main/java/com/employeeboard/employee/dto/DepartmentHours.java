@@ -0,0 +1,67 @@
+package com.employeeboard.employee.dto;
+
+import java.time.LocalDate;
+
+public class DepartmentHours {
+
+    private LocalDate weekStart;
+    private String department;
+    private int employees;
+    private int shifts;
+    private long minutes;
+
+    public DepartmentHours() {
+    }
+
+    public DepartmentHours(LocalDate weekStart, String department, int employees, int shifts, long minutes) {
+        this.weekStart = weekStart;
+        this.department = department;
+        this.employees = employees;
+        this.shifts = shifts;
+        this.minutes = minutes;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(int employees) {
+        this.employees = employees;
+    }
+
+    public int getShifts() {
+        return shifts;
+    }
+
+    public void setShifts(int shifts) {
+        this.shifts = shifts;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public double getHours() {
+        return minutes / 60.0;
+    }
+}
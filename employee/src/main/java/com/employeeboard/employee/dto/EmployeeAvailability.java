@@ -0,0 +1,45 @@
+package com.employeeboard.employee.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * When an employee may be scheduled: on {@code days} (every day when empty) except
+ * {@code unavailableDates}, for at most {@code maxHoursPerWeek} if given.
+ */
+public class EmployeeAvailability {
+    @NotNull(message = "Employee ID is required")
+    private Long employeeId;
+
+    private List<DayOfWeek> days;
+
+    private List<LocalDate> unavailableDates;
+
+    @Min(value = 0, message = "Max hours per week must not be negative")
+    private Integer maxHoursPerWeek;
+
+    public EmployeeAvailability() {}
+
+    public EmployeeAvailability(Long employeeId, List<DayOfWeek> days, List<LocalDate> unavailableDates, Integer maxHoursPerWeek) {
+        this.employeeId = employeeId;
+        this.days = days;
+        this.unavailableDates = unavailableDates;
+        this.maxHoursPerWeek = maxHoursPerWeek;
+    }
+
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public List<DayOfWeek> getDays() { return days; }
+    public void setDays(List<DayOfWeek> days) { this.days = days; }
+
+    public List<LocalDate> getUnavailableDates() { return unavailableDates; }
+    public void setUnavailableDates(List<LocalDate> unavailableDates) { this.unavailableDates = unavailableDates; }
+
+    public Integer getMaxHoursPerWeek() { return maxHoursPerWeek; }
+    public void setMaxHoursPerWeek(Integer maxHoursPerWeek) { this.maxHoursPerWeek = maxHoursPerWeek; }
+}
@@ -0,0 +1,107 @@
+package com.employeeboard.employee.dto;
+
+import com.employeeboard.employee.model.Employee;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Employees as parallel arrays, one entry per employee, with departments dictionary-encoded.
+ */
+public class EmployeeColumns {
+
+    // One media type for every columnar listing
+    public static final String MEDIA_TYPE = ShiftColumns.MEDIA_TYPE;
+
+    private int count;
+    private String[] departments;
+    private long[] id;
+    private String[] name;
+    private String[] employeeCode;
+    private int[] department;
+    private long[] version;
+
+    public EmployeeColumns() {
+    }
+
+    public static EmployeeColumns of(List<Employee> employees) {
+        EmployeeColumns columns = new EmployeeColumns();
+        int count = employees.size();
+        columns.count = count;
+        columns.id = new long[count];
+        columns.name = new String[count];
+        columns.employeeCode = new String[count];
+        columns.department = new int[count];
+        columns.version = new long[count];
+
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Employee employee = employees.get(i);
+            columns.id[i] = employee.getId();
+            columns.name[i] = employee.getName();
+            columns.employeeCode[i] = employee.getEmployeeCode();
+            columns.department[i] = dictionary.computeIfAbsent(employee.getDepartment(), department -> dictionary.size());
+            columns.version[i] = employee.getVersion() != null ? employee.getVersion() : 0;
+        }
+        columns.departments = new String[dictionary.size()];
+        dictionary.forEach((department, index) -> columns.departments[index] = department);
+        return columns;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public String[] getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(String[] departments) {
+        this.departments = departments;
+    }
+
+    public long[] getId() {
+        return id;
+    }
+
+    public void setId(long[] id) {
+        this.id = id;
+    }
+
+    public String[] getName() {
+        return name;
+    }
+
+    public void setName(String[] name) {
+        this.name = name;
+    }
+
+    public String[] getEmployeeCode() {
+        return employeeCode;
+    }
+
+    public void setEmployeeCode(String[] employeeCode) {
+        this.employeeCode = employeeCode;
+    }
+
+    public int[] getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(int[] department) {
+        this.department = department;
+    }
+
+    public long[] getVersion() {
+        return version;
+    }
+
+    public void setVersion(long[] version) {
+        this.version = version;
+    }
+}
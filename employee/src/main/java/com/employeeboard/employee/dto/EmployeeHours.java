@@ -0,0 +1,88 @@
+package com.employeeboard.employee.dto;
+
+import java.time.LocalDate;
+
+public class EmployeeHours {
+
+    private LocalDate weekStart;
+    private Long employeeId;
+    private String employeeCode;
+    private String name;
+    private String department;
+    private int shifts;
+    private long minutes;
+
+    public EmployeeHours() {
+    }
+
+    public EmployeeHours(LocalDate weekStart, Long employeeId, String employeeCode, String name, String department,
+                         int shifts, long minutes) {
+        this.weekStart = weekStart;
+        this.employeeId = employeeId;
+        this.employeeCode = employeeCode;
+        this.name = name;
+        this.department = department;
+        this.shifts = shifts;
+        this.minutes = minutes;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getEmployeeCode() {
+        return employeeCode;
+    }
+
+    public void setEmployeeCode(String employeeCode) {
+        this.employeeCode = employeeCode;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public int getShifts() {
+        return shifts;
+    }
+
+    public void setShifts(int shifts) {
+        this.shifts = shifts;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public double getHours() {
+        return minutes / 60.0;
+    }
+}
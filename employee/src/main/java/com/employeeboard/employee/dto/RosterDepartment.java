@@ -0,0 +1,33 @@
+package com.employeeboard.employee.dto;
+
+import java.util.List;
+
+public class RosterDepartment {
+
+    private String department;
+    private List<RosterEmployee> employees;
+
+    public RosterDepartment() {
+    }
+
+    public RosterDepartment(String department, List<RosterEmployee> employees) {
+        this.department = department;
+        this.employees = employees;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public List<RosterEmployee> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<RosterEmployee> employees) {
+        this.employees = employees;
+    }
+}
@@ -0,0 +1,57 @@
+package com.employeeboard.employee.dto;
+
+import com.employeeboard.employee.model.Shift;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public class RosterEmployee {
+
+    private Long id;
+    private String name;
+    private String employeeCode;
+    private Map<LocalDate, List<Shift>> days;
+
+    public RosterEmployee() {
+    }
+
+    public RosterEmployee(Long id, String name, String employeeCode, Map<LocalDate, List<Shift>> days) {
+        this.id = id;
+        this.name = name;
+        this.employeeCode = employeeCode;
+        this.days = days;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmployeeCode() {
+        return employeeCode;
+    }
+
+    public void setEmployeeCode(String employeeCode) {
+        this.employeeCode = employeeCode;
+    }
+
+    public Map<LocalDate, List<Shift>> getDays() {
+        return days;
+    }
+
+    public void setDays(Map<LocalDate, List<Shift>> days) {
+        this.days = days;
+    }
+}
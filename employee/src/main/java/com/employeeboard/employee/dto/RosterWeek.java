@@ -0,0 +1,44 @@
+package com.employeeboard.employee.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class RosterWeek {
+
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private List<RosterDepartment> departments;
+
+    public RosterWeek() {
+    }
+
+    public RosterWeek(LocalDate weekStart, LocalDate weekEnd, List<RosterDepartment> departments) {
+        this.weekStart = weekStart;
+        this.weekEnd = weekEnd;
+        this.departments = departments;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public LocalDate getWeekEnd() {
+        return weekEnd;
+    }
+
+    public void setWeekEnd(LocalDate weekEnd) {
+        this.weekEnd = weekEnd;
+    }
+
+    public List<RosterDepartment> getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(List<RosterDepartment> departments) {
+        this.departments = departments;
+    }
+}
@@ -0,0 +1,158 @@
+package com.employeeboard.employee.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Status of a roster generation job, updated by the job while it runs.
+ */
+public class ScheduleJob {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String PLANNING = "PLANNING";
+    public static final String COMMITTING = "COMMITTING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String CANCELLED = "CANCELLED";
+
+    private final String id;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final boolean dryRun;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicInteger plannedUnits = new AtomicInteger();
+    private volatile int totalUnits;
+    private volatile String state = QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile Instant finishedAt;
+    private volatile int required;
+    private volatile int assigned;
+    private volatile int created;
+    private volatile List<UnfilledSlot> unfilled = List.of();
+    private volatile List<ShiftRequest> shifts;
+    private volatile String error;
+
+    public ScheduleJob(String id, LocalDate from, LocalDate to, boolean dryRun) {
+        this.id = id;
+        this.from = from;
+        this.to = to;
+        this.dryRun = dryRun;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public boolean isFinished() {
+        return COMPLETED.equals(state) || FAILED.equals(state) || CANCELLED.equals(state);
+    }
+
+    // Percentage of department-days planned
+    public int getProgress() {
+        int total = totalUnits;
+        if (COMPLETED.equals(state)) {
+            return 100;
+        }
+        return total == 0 ? 0 : (int) (plannedUnits.get() * 100L / total);
+    }
+
+    public void setTotalUnits(int totalUnits) {
+        this.totalUnits = totalUnits;
+    }
+
+    public void unitPlanned() {
+        plannedUnits.incrementAndGet();
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    // Slots asked for by the coverage requirements over the whole range
+    public int getRequired() {
+        return required;
+    }
+
+    public void setRequired(int required) {
+        this.required = required;
+    }
+
+    // Slots filled by the generated shifts (the rest were already covered or are unfilled)
+    public int getAssigned() {
+        return assigned;
+    }
+
+    public void setAssigned(int assigned) {
+        this.assigned = assigned;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public List<UnfilledSlot> getUnfilled() {
+        return unfilled;
+    }
+
+    public void setUnfilled(List<UnfilledSlot> unfilled) {
+        this.unfilled = unfilled;
+    }
+
+    public List<ShiftRequest> getShifts() {
+        return shifts;
+    }
+
+    public void setShifts(List<ShiftRequest> shifts) {
+        this.shifts = shifts;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
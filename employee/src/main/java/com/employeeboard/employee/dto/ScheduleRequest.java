@@ -0,0 +1,57 @@
+package com.employeeboard.employee.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScheduleRequest {
+    @NotNull(message = "From date is required")
+    private LocalDate from;
+
+    @NotNull(message = "To date is required")
+    private LocalDate to;
+
+    @NotEmpty(message = "At least one coverage requirement is required")
+    private List<@Valid CoverageRequirement> coverage;
+
+    // Employees not listed are available every day
+    private List<@Valid EmployeeAvailability> availability = new ArrayList<>();
+
+    // Overrides schedules.rules.min-rest-minutes / max-hours-per-week for this run
+    @Min(value = 0, message = "Minimum rest must not be negative")
+    private Integer minRestMinutes;
+
+    @Min(value = 1, message = "Max hours per week must be at least 1")
+    private Integer maxHoursPerWeek;
+
+    // Plan only: the job result lists the shifts instead of storing them
+    private boolean dryRun;
+
+    public ScheduleRequest() {}
+
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public List<CoverageRequirement> getCoverage() { return coverage; }
+    public void setCoverage(List<CoverageRequirement> coverage) { this.coverage = coverage; }
+
+    public List<EmployeeAvailability> getAvailability() { return availability; }
+    public void setAvailability(List<EmployeeAvailability> availability) { this.availability = availability; }
+
+    public Integer getMinRestMinutes() { return minRestMinutes; }
+    public void setMinRestMinutes(Integer minRestMinutes) { this.minRestMinutes = minRestMinutes; }
+
+    public Integer getMaxHoursPerWeek() { return maxHoursPerWeek; }
+    public void setMaxHoursPerWeek(Integer maxHoursPerWeek) { this.maxHoursPerWeek = maxHoursPerWeek; }
+
+    public boolean isDryRun() { return dryRun; }
+    public void setDryRun(boolean dryRun) { this.dryRun = dryRun; }
+}
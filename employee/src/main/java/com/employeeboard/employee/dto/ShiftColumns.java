@@ -0,0 +1,155 @@
+package com.employeeboard.employee.dto;
+
+import com.employeeboard.employee.model.Shift;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shifts as parallel arrays, one entry per shift, instead of one object per shift. Employee
+ * ids are dictionary-encoded, dates are days after {@code baseDate}, and times are counted
+ * in {@code timeUnit} seconds from midnight: 60 (minutes) unless a time has seconds.
+ */
+public class ShiftColumns {
+
+    public static final String MEDIA_TYPE = "application/vnd.shiftboard.columns+json";
+
+    private int count;
+    private LocalDate baseDate;
+    private int timeUnit;
+    private long[] employeeIds;
+    private long[] id;
+    private int[] employee;
+    private int[] day;
+    private int[] start;
+    private int[] end;
+    private long[] version;
+
+    public ShiftColumns() {
+    }
+
+    public static ShiftColumns of(List<Shift> shifts) {
+        ShiftColumns columns = new ShiftColumns();
+        int count = shifts.size();
+        columns.count = count;
+        columns.id = new long[count];
+        columns.employee = new int[count];
+        columns.day = new int[count];
+        columns.start = new int[count];
+        columns.end = new int[count];
+        columns.version = new long[count];
+
+        LocalDate baseDate = null;
+        boolean wholeMinutes = true;
+        for (Shift shift : shifts) {
+            if (baseDate == null || shift.getDate().isBefore(baseDate)) {
+                baseDate = shift.getDate();
+            }
+            wholeMinutes &= shift.getStartTime().getSecond() == 0 && shift.getEndTime().getSecond() == 0;
+        }
+        columns.baseDate = baseDate;
+        columns.timeUnit = wholeMinutes ? 60 : 1;
+
+        Map<Long, Integer> dictionary = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Shift shift = shifts.get(i);
+            columns.id[i] = shift.getId();
+            columns.employee[i] = dictionary.computeIfAbsent(shift.getEmployeeId(), employeeId -> dictionary.size());
+            columns.day[i] = (int) ChronoUnit.DAYS.between(baseDate, shift.getDate());
+            columns.start[i] = time(shift.getStartTime(), columns.timeUnit);
+            columns.end[i] = time(shift.getEndTime(), columns.timeUnit);
+            columns.version[i] = shift.getVersion() != null ? shift.getVersion() : 0;
+        }
+        columns.employeeIds = new long[dictionary.size()];
+        dictionary.forEach((employeeId, index) -> columns.employeeIds[index] = employeeId);
+        return columns;
+    }
+
+    private static int time(LocalTime time, int unit) {
+        return time.toSecondOfDay() / unit;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public LocalDate getBaseDate() {
+        return baseDate;
+    }
+
+    public void setBaseDate(LocalDate baseDate) {
+        this.baseDate = baseDate;
+    }
+
+    public int getTimeUnit() {
+        return timeUnit;
+    }
+
+    public void setTimeUnit(int timeUnit) {
+        this.timeUnit = timeUnit;
+    }
+
+    public long[] getEmployeeIds() {
+        return employeeIds;
+    }
+
+    public void setEmployeeIds(long[] employeeIds) {
+        this.employeeIds = employeeIds;
+    }
+
+    public long[] getId() {
+        return id;
+    }
+
+    public void setId(long[] id) {
+        this.id = id;
+    }
+
+    public int[] getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(int[] employee) {
+        this.employee = employee;
+    }
+
+    public int[] getDay() {
+        return day;
+    }
+
+    public void setDay(int[] day) {
+        this.day = day;
+    }
+
+    public int[] getStart() {
+        return start;
+    }
+
+    public void setStart(int[] start) {
+        this.start = start;
+    }
+
+    public int[] getEnd() {
+        return end;
+    }
+
+    public void setEnd(int[] end) {
+        this.end = end;
+    }
+
+    public long[] getVersion() {
+        return version;
+    }
+
+    public void setVersion(long[] version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,64 @@
+package com.employeeboard.employee.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class UnfilledSlot {
+
+    private LocalDate date;
+    private String department;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int missing;
+
+    public UnfilledSlot() {
+    }
+
+    public UnfilledSlot(LocalDate date, String department, LocalTime startTime, LocalTime endTime, int missing) {
+        this.date = date;
+        this.department = department;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.missing = missing;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public int getMissing() {
+        return missing;
+    }
+
+    public void setMissing(int missing) {
+        this.missing = missing;
+    }
+}
@@ -0,0 +1,7 @@
+package com.employeeboard.employee.exception;
+
+public class ScheduleJobNotFoundException extends RuntimeException {
+    public ScheduleJobNotFoundException(String jobId) {
+        super("Schedule job not found with ID: " + jobId);
+    }
+}
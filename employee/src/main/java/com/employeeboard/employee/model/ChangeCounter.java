@@ -0,0 +1,37 @@
+package com.employeeboard.employee.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Monotonic change counter per collection scope ({@code employees}, {@code shifts:<date>}),
+ * split into shards ({@code shifts:<date>#<n>}) that are summed when read. Bumped in the
+ * same transaction as the change so conditional GETs can be answered from a few small
+ * rows instead of the rows themselves.
+ */
+@Entity
+@Table(name = "change_counters")
+public class ChangeCounter {
+    @Id
+    @Column(length = 64)
+    private String scope;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // Constructors
+    public ChangeCounter() {}
+
+    // Getters and Setters
+    public String getScope() { return scope; }
+    public void setScope(String scope) { this.scope = scope; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -1,10 +1,15 @@
 package com.employeeboard.employee.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
-@Table(name = "employees")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@Table(name = "employees", indexes = {
+    @Index(name = "idx_employees_department", columnList = "department")
+})
 @SequenceGenerator(name = "employee_seq", sequenceName = "employee_sequence", initialValue = 1, allocationSize = 1)
 public class Employee {
     @Id
@@ -23,6 +28,11 @@ public class Employee {
     @Column(nullable = false)
     private String department;
 
+    // Bumped on every update; also used as the ETag of the single resource
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Employee() {}
 
@@ -44,4 +54,7 @@ public class Employee {
     
     public String getDepartment() { return department; }
     public void setDepartment(String department) { this.department = department; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
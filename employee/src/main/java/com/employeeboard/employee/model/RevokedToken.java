@@ -0,0 +1,37 @@
+package com.employeeboard.employee.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * A revoked token id ({@code jti}), kept until the token would have expired anyway.
+ * Every instance mirrors this table in memory, so requests never query it.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+    @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+public class RevokedToken {
+    @Id
+    @Column(length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    // Constructors
+    public RevokedToken() {}
+
+    // Getters and Setters
+    public String getJti() { return jti; }
+    public void setJti(String jti) { this.jti = jti; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+
+    public Instant getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(Instant revokedAt) { this.revokedAt = revokedAt; }
+}
@@ -6,10 +6,16 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "shifts")
+@Table(name = "shifts", indexes = {
+    @Index(name = "idx_shifts_date_employee", columnList = "date, employee_id"),
+    @Index(name = "idx_shifts_employee_date", columnList = "employee_id, date")
+})
+@SequenceGenerator(name = "shift_seq", sequenceName = "shift_sequence", initialValue = 1, allocationSize = 50)
 public class Shift {
+    public static final String NO_OVERLAP_CONSTRAINT = "shifts_no_overlap";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shift_seq")
     private Long id;
 
     @NotNull
@@ -28,6 +34,10 @@ public class Shift {
     @Column(name = "end_time", nullable = false)
     private LocalTime endTime;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Shift() {}
 
@@ -53,4 +63,7 @@ public class Shift {
 
     public LocalTime getEndTime() { return endTime; }
     public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -1,10 +1,15 @@
 package com.employeeboard.employee.model;
 
+import com.employeeboard.employee.security.UserChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
+@EntityListeners(UserChangeListener.class)
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
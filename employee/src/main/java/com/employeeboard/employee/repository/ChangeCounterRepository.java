@@ -0,0 +1,35 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.model.ChangeCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChangeCounterRepository extends JpaRepository<ChangeCounter, String> {
+
+    // Naming the table keeps Hibernate from invalidating every cache region after this native write
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "change_counters"))
+    @Query(value = "INSERT INTO change_counters (scope, version, updated_at) VALUES (:scope, 1, now()) " +
+                   "ON CONFLICT (scope) DO UPDATE SET version = change_counters.version + 1, updated_at = now()",
+           nativeQuery = true)
+    void increment(@Param("scope") String scope);
+
+    // Scopes embed fixed-width ISO dates, so a lexical range selects a date range with its shards:
+    // toScope is the day after the range, which keeps the bound right under any collation
+    @Query("SELECT COALESCE(SUM(c.version), 0), MAX(c.updatedAt) FROM ChangeCounter c " +
+           "WHERE c.scope >= :fromScope AND c.scope < :toScope")
+    List<Object[]> summarize(@Param("fromScope") String fromScope, @Param("toScope") String toScope);
+
+    @Query("SELECT COALESCE(SUM(c.version), 0), MAX(c.updatedAt) FROM ChangeCounter c " +
+           "WHERE c.scope = :scope OR c.scope LIKE :shards")
+    List<Object[]> summarizeScope(@Param("scope") String scope, @Param("shards") String shards);
+}
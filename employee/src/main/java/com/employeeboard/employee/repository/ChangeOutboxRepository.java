@@ -0,0 +1,70 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.dto.ChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class ChangeOutboxRepository {
+
+    // Single-key advisory lock; employee locks use the two-key form, which PostgreSQL keeps apart
+    private static final long DISPATCHER_LOCK = 0x6f62787464697370L;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO change_outbox (event_type, employee_id, entity_id, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    public record PendingChange(String type, long employeeId, long entityId, String payload, Instant createdAt) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public void insert(List<PendingChange> changes) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, batchSize, (ps, change) -> {
+            ps.setString(1, change.type());
+            ps.setLong(2, change.employeeId());
+            ps.setLong(3, change.entityId());
+            ps.setString(4, change.payload());
+            ps.setTimestamp(5, Timestamp.from(change.createdAt()));
+        });
+    }
+
+    /**
+     * Only one transaction across all instances drains the outbox at a time, which keeps
+     * delivery in id order. Returns false while another one is.
+     */
+    public boolean tryLockDispatcher() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, DISPATCHER_LOCK));
+    }
+
+    public List<ChangeEvent> findOldest(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, event_type, employee_id, entity_id, created_at, payload FROM change_outbox ORDER BY id LIMIT ?",
+                (rs, row) -> new ChangeEvent(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getLong(4),
+                        rs.getTimestamp(5).toInstant(), rs.getString(6)),
+                limit);
+    }
+
+    public void delete(List<ChangeEvent> events) {
+        Long[] ids = events.stream().map(ChangeEvent::getId).toArray(Long[]::new);
+        jdbcTemplate.update("DELETE FROM change_outbox WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("int8", ids)));
+    }
+
+    // When the oldest undelivered event was written, or null when everything has been delivered
+    public Instant findOldestCreatedAt() {
+        List<Timestamp> oldest = jdbcTemplate.queryForList(
+                "SELECT created_at FROM change_outbox ORDER BY id LIMIT 1", Timestamp.class);
+        return oldest.isEmpty() ? null : oldest.get(0).toInstant();
+    }
+}
@@ -0,0 +1,27 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.model.Employee;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeeBulkRepository {
+
+    /**
+     * Reserves {@code count} ids from {@code employee_sequence} in a single round trip.
+     */
+    List<Long> reserveIds(int count);
+
+    /**
+     * Inserts employees whose id and code are already assigned, using JDBC batches.
+     */
+    void insertAll(List<Employee> employees);
+
+    /**
+     * Takes a transaction-scoped lock per employee, in key order so concurrent writers cannot
+     * deadlock. Unlike {@code EmployeeLocks} it holds across instances: another writer for the
+     * same employee waits until this transaction ends and then reads what it committed.
+     * Taking a lock the transaction already holds returns at once.
+     */
+    void lockForWrite(Collection<Long> employeeIds);
+}
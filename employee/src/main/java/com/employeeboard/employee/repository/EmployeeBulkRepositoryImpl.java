@@ -0,0 +1,98 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.model.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+public class EmployeeBulkRepositoryImpl implements EmployeeBulkRepository {
+
+    // Advisory locks in the two-key form, under a class id of their own
+    private static final int EMPLOYEE_LOCK_CLASS = 0x6f627800;
+
+    private static final String RESERVE_IDS_SQL =
+            "SELECT nextval('employee_sequence') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO employees (id, name, employee_code, department, version) VALUES (?, ?, ?, ?, 0)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public List<Long> reserveIds(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, count);
+    }
+
+    @Override
+    public void insertAll(List<Employee> employees) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, employees, batchSize, (ps, employee) -> {
+            ps.setLong(1, employee.getId());
+            ps.setString(2, employee.getName());
+            ps.setString(3, employee.getEmployeeCode());
+            ps.setString(4, employee.getDepartment());
+        });
+        employees.forEach(employee -> employee.setVersion(0L));
+
+        if (!employees.isEmpty()) {
+            evictCachedEmployeesAfterCommit();
+        }
+    }
+
+    /**
+     * Rows written over JDBC bypass Hibernate, so cached employee queries (findAll,
+     * existsByEmployeeCode) would keep answering without them. Both regions are dropped once
+     * the rows are visible to other transactions; evicting earlier would let a concurrent
+     * reader cache the old result again.
+     */
+    private void evictCachedEmployeesAfterCommit() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        Runnable evict = () -> {
+            cache.evictEntityData(Employee.class);
+            cache.evictDefaultQueryRegion();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    @Override
+    public void lockForWrite(Collection<Long> employeeIds) {
+        Integer[] keys = employeeIds.stream().map(id -> Long.hashCode(id)).distinct().sorted().toArray(Integer[]::new);
+        if (keys.length == 0) {
+            return;
+        }
+        jdbcTemplate.query(
+                "SELECT pg_advisory_xact_lock(?, k) FROM (SELECT unnest(?::int[]) AS k ORDER BY k) keys",
+                ps -> {
+                    ps.setInt(1, EMPLOYEE_LOCK_CLASS);
+                    ps.setArray(2, ps.getConnection().createArrayOf("int4", keys));
+                },
+                rs -> {
+                });
+    }
+}
@@ -1,10 +1,47 @@
 package com.employeeboard.employee.repository;
 
 import com.employeeboard.employee.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeBulkRepository {
+    // Cached queries hold ids only; the rows come from the employees entity region
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByEmployeeCode(String employeeCode);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Employee> findAll();
+
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+
+    // Full-table streams would only churn the second-level cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    Stream<Employee> streamAllByOrderByIdAsc();
+
+    List<Employee> findByDepartmentIn(Collection<String> departments);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Every employee with their shifts in the range (if any), already in roster order
+    @Query("SELECT e, s FROM Employee e LEFT JOIN Shift s ON s.employeeId = e.id AND s.date BETWEEN :from AND :to " +
+           "ORDER BY e.department, e.name, e.id, s.date, s.startTime")
+    List<Object[]> findRosterRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT e.employeeCode FROM Employee e WHERE e.employeeCode IN :codes")
+    Set<String> findExistingCodes(@Param("codes") Collection<String> codes);
 }
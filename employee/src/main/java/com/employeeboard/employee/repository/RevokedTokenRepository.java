@@ -0,0 +1,38 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.model.RevokedToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // Returns 0 when the token was already revoked, by this or another instance
+    // Naming the table keeps Hibernate from invalidating every cache region after this native write
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revoked_tokens"))
+    @Transactional
+    @Query(value = "INSERT INTO revoked_tokens (jti, expires_at, revoked_at) VALUES (:jti, :expiresAt, :revokedAt) " +
+                   "ON CONFLICT (jti) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("jti") String jti,
+                       @Param("expiresAt") Instant expiresAt,
+                       @Param("revokedAt") Instant revokedAt);
+
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant revokedAfter, Instant expiresAfter);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,48 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.dto.DepartmentCoverage;
+import com.employeeboard.employee.dto.DepartmentHours;
+import com.employeeboard.employee.dto.EmployeeHours;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The {@code shift_hours_weekly} and {@code shift_coverage_hourly} aggregates. Hours deltas
+ * are applied as batched upserts in the caller's transaction, in the order given. Coverage
+ * deltas are appended to {@code shift_coverage_deltas} instead and folded in later by
+ * {@link #foldCoverage()}; reads include them.
+ */
+public interface ShiftAggregateRepository {
+
+    record HoursDelta(LocalDate weekStart, long employeeId, long minutes, int shifts) {}
+
+    record CoverageDelta(LocalDate date, String department, int hour, int headcount) {}
+
+    void addHours(List<HoursDelta> deltas);
+
+    void addCoverage(List<CoverageDelta> deltas);
+
+    /**
+     * Moves every committed coverage delta into {@code shift_coverage_hourly}. Returns the
+     * number of aggregate rows written.
+     */
+    int foldCoverage();
+
+    void deleteHours(long employeeId);
+
+    /**
+     * Hours of current employees in the weeks starting {@code fromWeek..toWeek}.
+     */
+    List<EmployeeHours> findEmployeeHours(LocalDate fromWeek, LocalDate toWeek, String department);
+
+    List<DepartmentHours> findDepartmentHours(LocalDate fromWeek, LocalDate toWeek, String department);
+
+    List<DepartmentCoverage> findCoverage(LocalDate from, LocalDate to, String department);
+
+    /**
+     * Recomputes both aggregates around {@code from..to} from the shifts table, for rows
+     * written without going through the services. Weekly hours are rebuilt for whole weeks.
+     */
+    void rebuildAggregates(LocalDate from, LocalDate to);
+}
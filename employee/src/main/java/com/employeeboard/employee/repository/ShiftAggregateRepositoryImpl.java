@@ -0,0 +1,165 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.dto.DepartmentCoverage;
+import com.employeeboard.employee.dto.DepartmentHours;
+import com.employeeboard.employee.dto.EmployeeHours;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShiftAggregateRepositoryImpl implements ShiftAggregateRepository {
+
+    private static final String ADD_HOURS_SQL =
+            "INSERT INTO shift_hours_weekly (week_start, employee_id, minutes, shifts) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (week_start, employee_id) DO UPDATE SET " +
+            "minutes = shift_hours_weekly.minutes + EXCLUDED.minutes, shifts = shift_hours_weekly.shifts + EXCLUDED.shifts";
+
+    private static final String ADD_COVERAGE_SQL =
+            "INSERT INTO shift_coverage_deltas (date, department, hour, headcount) VALUES (?, ?, ?, ?)";
+
+    // One statement, so the deltas leave and the aggregate changes in the same snapshot; sorted so
+    // two folders running at once lock aggregate rows in the same order
+    private static final String FOLD_COVERAGE_SQL =
+            "WITH folded AS (DELETE FROM shift_coverage_deltas RETURNING date, department, hour, headcount) " +
+            "INSERT INTO shift_coverage_hourly (date, department, hour, headcount) " +
+            "SELECT date, department, hour, SUM(headcount) FROM folded GROUP BY 1, 2, 3 ORDER BY 1, 2, 3 " +
+            "ON CONFLICT (date, department, hour) DO UPDATE SET headcount = shift_coverage_hourly.headcount + EXCLUDED.headcount";
+
+    // Same arithmetic as the V2 migration: overnight shifts end on the following day
+    private static final String SHIFT_MINUTES =
+            "(EXTRACT(EPOCH FROM s.end_time - s.start_time)::bigint " +
+            "+ CASE WHEN s.end_time <= s.start_time THEN 86400 ELSE 0 END) / 60";
+
+    private static final String SHIFT_END =
+            "CASE WHEN s.end_time <= s.start_time THEN (s.date + 1) + s.end_time ELSE s.date + s.end_time END";
+
+    private static final String REBUILD_HOURS_SQL =
+            "INSERT INTO shift_hours_weekly (week_start, employee_id, minutes, shifts) " +
+            "SELECT date_trunc('week', s.date)::date, s.employee_id, SUM(" + SHIFT_MINUTES + "), COUNT(*) " +
+            "FROM shifts s JOIN employees e ON e.id = s.employee_id " +
+            "WHERE s.date BETWEEN ? AND ? GROUP BY 1, 2";
+
+    private static final String REBUILD_COVERAGE_SQL =
+            "INSERT INTO shift_coverage_hourly (date, department, hour, headcount) " +
+            "SELECT h::date, e.department, EXTRACT(HOUR FROM h)::smallint, COUNT(*) " +
+            "FROM shifts s JOIN employees e ON e.id = s.employee_id " +
+            "CROSS JOIN LATERAL generate_series(date_trunc('hour', s.date + s.start_time), " +
+            SHIFT_END + " - INTERVAL '1 microsecond', INTERVAL '1 hour') h " +
+            "WHERE s.date BETWEEN ? AND ? AND h::date BETWEEN ? AND ? GROUP BY 1, 2, 3";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public void addHours(List<HoursDelta> deltas) {
+        jdbcTemplate.batchUpdate(ADD_HOURS_SQL, deltas, batchSize, (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.weekStart()));
+            ps.setLong(2, delta.employeeId());
+            ps.setLong(3, delta.minutes());
+            ps.setInt(4, delta.shifts());
+        });
+    }
+
+    @Override
+    public void addCoverage(List<CoverageDelta> deltas) {
+        jdbcTemplate.batchUpdate(ADD_COVERAGE_SQL, deltas, batchSize, (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.date()));
+            ps.setString(2, delta.department());
+            ps.setInt(3, delta.hour());
+            ps.setInt(4, delta.headcount());
+        });
+    }
+
+    @Override
+    public int foldCoverage() {
+        return jdbcTemplate.update(FOLD_COVERAGE_SQL);
+    }
+
+    @Override
+    public void deleteHours(long employeeId) {
+        jdbcTemplate.update("DELETE FROM shift_hours_weekly WHERE employee_id = ?", employeeId);
+    }
+
+    @Override
+    public List<EmployeeHours> findEmployeeHours(LocalDate fromWeek, LocalDate toWeek, String department) {
+        String sql = "SELECT w.week_start, e.id, e.employee_code, e.name, e.department, w.shifts, w.minutes " +
+                "FROM shift_hours_weekly w JOIN employees e ON e.id = w.employee_id " +
+                "WHERE w.week_start BETWEEN ? AND ? AND w.shifts > 0" +
+                (department != null ? " AND e.department = ?" : "") +
+                " ORDER BY w.week_start, e.department, e.name, e.id";
+        return jdbcTemplate.query(sql, (rs, row) -> new EmployeeHours(rs.getDate(1).toLocalDate(), rs.getLong(2),
+                rs.getString(3), rs.getString(4), rs.getString(5), rs.getInt(6), rs.getLong(7)),
+                arguments(fromWeek, toWeek, department));
+    }
+
+    @Override
+    public List<DepartmentHours> findDepartmentHours(LocalDate fromWeek, LocalDate toWeek, String department) {
+        String sql = "SELECT w.week_start, e.department, COUNT(*), SUM(w.shifts), SUM(w.minutes) " +
+                "FROM shift_hours_weekly w JOIN employees e ON e.id = w.employee_id " +
+                "WHERE w.week_start BETWEEN ? AND ? AND w.shifts > 0" +
+                (department != null ? " AND e.department = ?" : "") +
+                " GROUP BY w.week_start, e.department ORDER BY w.week_start, e.department";
+        return jdbcTemplate.query(sql, (rs, row) -> new DepartmentHours(rs.getDate(1).toLocalDate(), rs.getString(2),
+                rs.getInt(3), rs.getInt(4), rs.getLong(5)),
+                arguments(fromWeek, toWeek, department));
+    }
+
+    @Override
+    public List<DepartmentCoverage> findCoverage(LocalDate from, LocalDate to, String department) {
+        String filter = "WHERE date BETWEEN ? AND ?" + (department != null ? " AND department = ?" : "");
+        String sql = "SELECT date, department, hour, SUM(headcount) FROM (" +
+                "SELECT date, department, hour, headcount FROM shift_coverage_hourly " + filter +
+                " UNION ALL SELECT date, department, hour, headcount FROM shift_coverage_deltas " + filter +
+                ") c GROUP BY date, department, hour HAVING SUM(headcount) > 0 ORDER BY date, department, hour";
+        Object[] arguments = arguments(from, to, department);
+        Object[] bothTables = new Object[arguments.length * 2];
+        System.arraycopy(arguments, 0, bothTables, 0, arguments.length);
+        System.arraycopy(arguments, 0, bothTables, arguments.length, arguments.length);
+        List<DepartmentCoverage> coverage = new ArrayList<>();
+        jdbcTemplate.query(sql, rs -> {
+            LocalDate date = rs.getDate(1).toLocalDate();
+            String rowDepartment = rs.getString(2);
+            DepartmentCoverage current = coverage.isEmpty() ? null : coverage.get(coverage.size() - 1);
+            if (current == null || !current.getDate().equals(date) || !current.getDepartment().equals(rowDepartment)) {
+                current = new DepartmentCoverage(date, rowDepartment, new int[24]);
+                coverage.add(current);
+            }
+            current.getHeadcount()[rs.getInt(3)] = rs.getInt(4);
+        }, bothTables);
+        return coverage;
+    }
+
+    @Override
+    public void rebuildAggregates(LocalDate from, LocalDate to) {
+        LocalDate fromWeek = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate toWeekEnd = to.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        jdbcTemplate.update("DELETE FROM shift_hours_weekly WHERE week_start BETWEEN ? AND ?",
+                Date.valueOf(fromWeek), Date.valueOf(toWeekEnd));
+        jdbcTemplate.update(REBUILD_HOURS_SQL, Date.valueOf(fromWeek), Date.valueOf(toWeekEnd));
+
+        // Overnight shifts of the last day spill into the next one
+        LocalDate lastDate = to.plusDays(1);
+        jdbcTemplate.update("DELETE FROM shift_coverage_hourly WHERE date BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(lastDate));
+        jdbcTemplate.update("DELETE FROM shift_coverage_deltas WHERE date BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(lastDate));
+        jdbcTemplate.update(REBUILD_COVERAGE_SQL, Date.valueOf(from.minusDays(1)), Date.valueOf(lastDate),
+                Date.valueOf(from), Date.valueOf(lastDate));
+    }
+
+    private static Object[] arguments(LocalDate from, LocalDate to, String department) {
+        return department != null
+                ? new Object[] {Date.valueOf(from), Date.valueOf(to), department}
+                : new Object[] {Date.valueOf(from), Date.valueOf(to)};
+    }
+}
@@ -2,17 +2,44 @@ package com.employeeboard.employee.repository;
 
 import com.employeeboard.employee.model.Shift;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ShiftRepository extends JpaRepository<Shift, Long> {
+public interface ShiftRepository extends JpaRepository<Shift, Long>, JpaSpecificationExecutor<Shift>,
+        ShiftAggregateRepository {
     List<Shift> findByDate(LocalDate date);
-    
+
     List<Shift> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
+
+    // Range queries are served by the (date, employee_id) and (employee_id, date) indexes
+    List<Shift> findByDateBetweenOrderByDateAscStartTimeAsc(LocalDate from, LocalDate to);
+
+    List<Shift> findByEmployeeIdAndDateBetweenOrderByDateAscStartTimeAsc(Long employeeId, LocalDate from, LocalDate to);
+
+    @Query("SELECT s FROM Shift s WHERE s.date BETWEEN :from AND :to " +
+           "AND s.employeeId IN (SELECT e.id FROM Employee e WHERE e.department = :department) " +
+           "ORDER BY s.date, s.startTime")
+    List<Shift> findByDepartmentAndDateBetween(@Param("department") String department,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    @Query("SELECT s FROM Shift s WHERE s.employeeId = :employeeId AND s.date BETWEEN :from AND :to " +
+           "AND s.employeeId IN (SELECT e.id FROM Employee e WHERE e.department = :department) " +
+           "ORDER BY s.date, s.startTime")
+    List<Shift> findByEmployeeIdAndDepartmentAndDateBetween(@Param("employeeId") Long employeeId,
+                                                            @Param("department") String department,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+
+    List<Shift> findByEmployeeId(Long employeeId);
+
+    List<Shift> findByEmployeeIdInAndDateBetween(Collection<Long> employeeIds, LocalDate from, LocalDate to);
 }
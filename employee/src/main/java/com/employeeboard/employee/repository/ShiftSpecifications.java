@@ -0,0 +1,45 @@
+package com.employeeboard.employee.repository;
+
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public final class ShiftSpecifications {
+
+    private ShiftSpecifications() {
+    }
+
+    public static Specification<Shift> matching(LocalDate from, LocalDate to, Long employeeId, String department) {
+        Specification<Shift> spec = Specification.unrestricted();
+        if (from != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), from));
+        }
+        if (to != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), to));
+        }
+        if (employeeId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("employeeId"), employeeId));
+        }
+        if (department != null && !department.trim().isEmpty()) {
+            spec = spec.and(inDepartment(department.trim()));
+        }
+        return spec;
+    }
+
+    public static Specification<Shift> idAfter(Long after) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), after);
+    }
+
+    private static Specification<Shift> inDepartment(String department) {
+        return (root, query, cb) -> {
+            Subquery<Long> employeeIds = query.subquery(Long.class);
+            Root<Employee> employee = employeeIds.from(Employee.class);
+            employeeIds.select(employee.get("id")).where(cb.equal(employee.get("department"), department));
+            return root.get("employeeId").in(employeeIds);
+        };
+    }
+}
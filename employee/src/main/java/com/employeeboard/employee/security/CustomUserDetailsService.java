@@ -2,23 +2,70 @@ package com.employeeboard.employee.security;
 
 import com.employeeboard.employee.model.User;
 import com.employeeboard.employee.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Collections;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Value("${security.user-cache.max-entries:10000}")
+    private long userCacheMaxEntries;
+
+    @Value("${security.user-cache.ttl:300000}")
+    private long userCacheTtl;
+
+    private Cache<String, UserDetails> userCache;
+
+    @PostConstruct
+    void init() {
+        userCache = Caffeine.newBuilder()
+                .maximumSize(userCacheMaxEntries)
+                .expireAfterWrite(Duration.ofMillis(userCacheTtl))
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // Loaded outside the cache's compute so a virtual thread never blocks on JDBC while pinned
+        UserDetails cached = userCache.getIfPresent(username);
+        if (cached == null) {
+            cached = loadFromRepository(username);
+            userCache.put(username, cached);
+        }
+
+        // Hand out a copy: the authentication manager erases credentials on the instance it returns
+        return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.findByUsername(user.getUsername()).ifPresent(entity -> entity.setPassword(newPassword));
+        evict(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
+
+    public void evict(String username) {
+        userCache.invalidate(username);
+    }
+
+    private UserDetails loadFromRepository(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
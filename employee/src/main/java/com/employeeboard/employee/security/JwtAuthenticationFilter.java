@@ -1,5 +1,7 @@
 package com.employeeboard.employee.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +26,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Value("${jwt.header.name}")
     private String headerName;
 
@@ -34,37 +45,68 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = authenticate(request);
+        // Only the authentication work is timed, not the rest of the chain
+        sample.stop(Timer.builder("auth.filter")
+                .description("Time to authenticate a request from its bearer token")
+                .tag("token", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Authenticates the request from its bearer token and returns how the token was resolved:
+     * {@code none}, {@code cached}, {@code verified} or {@code rejected}.
+     */
+    private String authenticate(HttpServletRequest request) {
         final String authorizationHeader = request.getHeader(headerName);
 
         String username = null;
-        String jwt = null;
+        String outcome = "none";
 
         if (authorizationHeader != null && authorizationHeader.startsWith(tokenPrefix)) {
-            jwt = authorizationHeader.substring(tokenPrefix.length());
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception e) {
-                logger.error("JWT Token extraction failed: " + e.getMessage());
+            String jwt = authorizationHeader.substring(tokenPrefix.length());
+            TokenClaims claims = verifiedTokenCache.get(jwt);
+            outcome = claims != null ? "cached" : "verified";
+
+            if (claims == null) {
+                try {
+                    // Parsing verifies both the signature and the expiration in one pass
+                    claims = jwtUtil.parseToken(jwt);
+                    if (claims.isAccessToken()) {
+                        verifiedTokenCache.put(jwt, claims);
+                    }
+                } catch (Exception e) {
+                    logger.error("JWT Token extraction failed: " + e.getMessage());
+                }
+            }
+
+            // Refresh tokens are only accepted by /api/auth/refresh; revocation is checked in memory
+            if (claims != null && claims.isAccessToken() && !revocationIndex.isRevoked(claims.getId())) {
+                username = claims.getSubject();
+            } else {
+                outcome = "rejected";
             }
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                
-                request.setAttribute("username", username);
-                String role = userDetails.getAuthorities().stream()
-                    .findFirst()
-                    .map(auth -> auth.getAuthority().replace("ROLE_", ""))
-                    .orElse("USER");
-                request.setAttribute("role", role);
-            }
+            UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            
+            request.setAttribute("username", username);
+            String role = userDetails.getAuthorities().stream()
+                .findFirst()
+                .map(auth -> auth.getAuthority().replace("ROLE_", ""))
+                .orElse("USER");
+            request.setAttribute("role", role);
         }
-        filterChain.doFilter(request, response);
+        return outcome;
     }
 }
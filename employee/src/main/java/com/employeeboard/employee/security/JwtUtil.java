@@ -1,8 +1,10 @@
 package com.employeeboard.employee.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -11,6 +13,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
@@ -22,11 +25,32 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.refresh-expiration:604800000}")
+    private Long refreshExpiration;
+
     @Value("${jwt.issuer}")
     private String issuer;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    private SecretKey signingKey;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        // Key and parser are immutable and thread-safe, so build them once
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiration of the token and returns its claims.
+     * The token is parsed exactly once; callers should read everything they need
+     * from the returned view instead of calling the extract methods again.
+     */
+    public TokenClaims parseToken(String token) {
+        return TokenClaims.from(extractAllClaims(token));
     }
 
     public String extractUsername(String token) {
@@ -43,38 +67,50 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Short-lived access token, checked statelessly on every request.
+     */
+    public String generateToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TokenClaims.TYPE_CLAIM, TokenClaims.ACCESS);
+        return createToken(claims, userDetails.getUsername(), expiration);
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Long-lived token that is only accepted by the refresh endpoint, once.
+     */
+    public String generateRefreshToken(String username) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(TokenClaims.TYPE_CLAIM, TokenClaims.REFRESH);
+        return createToken(claims, username, refreshExpiration);
+    }
+
+    public long getExpiration() {
+        return expiration;
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, long lifetime) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expiration);
+        Date expiryDate = new Date(now.getTime() + lifetime);
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .issuer(issuer)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final TokenClaims claims = parseToken(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.isExpired());
     }
 }
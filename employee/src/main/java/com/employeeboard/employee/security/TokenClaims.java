@@ -0,0 +1,57 @@
+package com.employeeboard.employee.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Immutable view of the claims of a verified token, produced by {@link JwtUtil#parseToken(String)}.
+ */
+public final class TokenClaims {
+
+    static final String TYPE_CLAIM = "token_type";
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private final String id;
+    private final String type;
+    private final String subject;
+    private final String issuer;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    private TokenClaims(String id, String type, String subject, String issuer, Date issuedAt, Date expiration) {
+        this.id = id;
+        this.type = type;
+        this.subject = subject;
+        this.issuer = issuer;
+        this.issuedAt = issuedAt != null ? issuedAt.getTime() : 0L;
+        this.expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+    }
+
+    static TokenClaims from(Claims claims) {
+        return new TokenClaims(claims.getId(), claims.get(TYPE_CLAIM, String.class), claims.getSubject(), claims.getIssuer(), claims.getIssuedAt(), claims.getExpiration());
+    }
+
+    public String getId() { return id; }
+
+    public String getType() { return type; }
+
+    public boolean isAccessToken() { return ACCESS.equals(type); }
+
+    public boolean isRefreshToken() { return REFRESH.equals(type); }
+
+    public String getSubject() { return subject; }
+
+    public String getIssuer() { return issuer; }
+
+    public Date getIssuedAt() { return new Date(issuedAt); }
+
+    public Date getExpiration() { return new Date(expiresAt); }
+
+    public long getExpiresAtMillis() { return expiresAt; }
+
+    public boolean isExpired() {
+        return expiresAt <= System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,170 @@
+package com.employeeboard.employee.security;
+
+import com.employeeboard.employee.model.RevokedToken;
+import com.employeeboard.employee.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory view of revoked token ids, answering {@link #isRevoked(String)} without a
+ * database round trip. A Bloom filter rules out almost every live token with a few bit
+ * reads; the bounded map of {@code jti -> expiry} confirms the rest. Revocations are
+ * written to {@code revoked_tokens} and polled from there, so other instances and
+ * restarts see them within {@code jwt.revocation.sync-interval}. Entries are dropped once
+ * the token has expired on its own. An instance can start while the database is
+ * unreachable; until its first sync succeeds every lookup goes to the table.
+ */
+@Component
+public class TokenRevocationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationIndex.class);
+
+    // Re-read a little history on each poll so clock skew between instances cannot hide a row
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${jwt.revocation.sync-interval:10000}")
+    private long syncInterval;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    // Set when the map overflowed and no longer holds every revoked id
+    private volatile boolean incomplete;
+    // Set by the first successful sync; before that the index knows nothing
+    private volatile boolean loaded;
+    private Instant lastSync = Instant.EPOCH;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        filter = new BloomFilter(maxEntries, 0.01);
+        syncQuietly();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti != null && !loaded) {
+            return revokedTokenRepository.existsById(jti);
+        }
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        if (expiresAt != null) {
+            return true;
+        }
+        // Only after an overflow can a filter hit be missing from the map
+        return incomplete && revokedTokenRepository.existsById(jti);
+    }
+
+    /**
+     * Revokes the token until its expiry. Returns {@code false} if it was already revoked,
+     * which makes refresh-token rotation single-use even across instances.
+     */
+    public boolean revoke(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            // Already rejected by signature verification; nothing to remember
+            return true;
+        }
+        int inserted = revokedTokenRepository.insertIfAbsent(jti, Instant.ofEpochMilli(expiresAtMillis), Instant.now());
+        remember(jti, expiresAtMillis);
+        return inserted > 0;
+    }
+
+    private synchronized void remember(String jti, long expiresAtMillis) {
+        if (revoked.size() >= maxEntries && !revoked.containsKey(jti)) {
+            purgeExpired();
+            if (revoked.size() >= maxEntries) {
+                if (!incomplete) {
+                    log.warn("Token revocation index is full ({} entries); falling back to the database for filter hits", maxEntries);
+                }
+                incomplete = true;
+                filter.add(jti);
+                return;
+            }
+        }
+        revoked.put(jti, expiresAtMillis);
+        filter.add(jti);
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Token revocation sync failed: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void sync() {
+        Instant now = Instant.now();
+        if (incomplete) {
+            reload(now);
+        }
+        Instant since = lastSync.equals(Instant.EPOCH) ? Instant.EPOCH : lastSync.minus(SYNC_OVERLAP);
+        for (RevokedToken token : revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now)) {
+            if (!revoked.containsKey(token.getJti())) {
+                remember(token.getJti(), token.getExpiresAt().toEpochMilli());
+            }
+        }
+        lastSync = now;
+        loaded = true;
+        purgeExpired();
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    // After an overflow, start over from the table once its live rows fit in memory again
+    private void reload(Instant now) {
+        List<RevokedToken> live = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(Instant.EPOCH, now);
+        if (live.size() >= maxEntries) {
+            return;
+        }
+        BloomFilter rebuilt = new BloomFilter(maxEntries, 0.01);
+        revoked.clear();
+        for (RevokedToken token : live) {
+            revoked.put(token.getJti(), token.getExpiresAt().toEpochMilli());
+            rebuilt.add(token.getJti());
+        }
+        filter = rebuilt;
+        incomplete = false;
+    }
+
+    private synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (!revoked.values().removeIf(expiresAt -> expiresAt <= now) || incomplete) {
+            return;
+        }
+        // Bits cannot be cleared, so rebuild the filter from what is still revoked
+        BloomFilter rebuilt = new BloomFilter(maxEntries, 0.01);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.employeeboard.employee.security;
+
+import com.employeeboard.employee.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached authentication state for a {@link User} whenever the row changes.
+ */
+@Component
+public class UserChangeListener {
+
+    @Autowired
+    @Lazy
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    @Lazy
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userDetailsService.evict(user.getUsername());
+        verifiedTokenCache.evictUser(user.getUsername());
+    }
+}
@@ -0,0 +1,77 @@
+package com.employeeboard.employee.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers tokens whose signature has already been verified so the filter does not
+ * parse them again. Entries are keyed by a SHA-256 hash of the token and expire at the
+ * token's own {@code exp} claim.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${jwt.cache.max-entries:10000}")
+    private long maxEntries;
+
+    private Cache<String, TokenClaims> tokens;
+
+    @PostConstruct
+    void init() {
+        tokens = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, TokenClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+                        long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public TokenClaims get(String token) {
+        TokenClaims verified = tokens.getIfPresent(hash(token));
+        if (verified == null || verified.isExpired()) {
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, TokenClaims claims) {
+        tokens.put(hash(token), claims);
+    }
+
+    public void evictUser(String username) {
+        tokens.asMap().values().removeIf(verified -> username.equals(verified.getSubject()));
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
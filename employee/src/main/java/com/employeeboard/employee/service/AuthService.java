@@ -2,16 +2,26 @@ package com.employeeboard.employee.service;
 
 import com.employeeboard.employee.dto.AuthResponse;
 import com.employeeboard.employee.dto.LoginRequest;
-import com.employeeboard.employee.model.User;
-import com.employeeboard.employee.repository.UserRepository;
+import com.employeeboard.employee.exception.InvalidTokenException;
+import com.employeeboard.employee.security.CustomUserDetailsService;
 import com.employeeboard.employee.security.JwtUtil;
+import com.employeeboard.employee.security.PasswordHashingPool;
+import com.employeeboard.employee.security.TokenClaims;
+import com.employeeboard.employee.security.TokenRevocationIndex;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class AuthService {
     
@@ -20,21 +30,104 @@ public class AuthService {
     
     @Autowired
     private JwtUtil jwtUtil;
-    
+
     @Autowired
-    private UserRepository userRepository;
+    private PasswordHashingPool passwordHashingPool;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Runs the BCrypt check on the password hashing pool so logins never hold request threads.
+     * Throws {@link java.util.concurrent.RejectedExecutionException} when the pool is saturated.
+     */
+    public CompletableFuture<AuthResponse> authenticateAsync(LoginRequest request) {
+        return passwordHashingPool.submit(() -> authenticate(request));
+    }
 
     public AuthResponse authenticate(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
-        
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
+            );
+
+            // The provider already loaded the user; its authority carries the role
+            AuthResponse response = issueTokens((UserDetails) authentication.getPrincipal());
+            outcome = "success";
+            return response;
+        } catch (AuthenticationException e) {
+            outcome = "bad-credentials";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.login")
+                    .description("Time to check credentials and issue tokens, excluding the hashing pool queue")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token. Each refresh
+     * token works once: it is revoked as part of the exchange, so a replayed one is rejected.
+     */
+    public AuthResponse refresh(String refreshToken) {
+        TokenClaims claims = parse(refreshToken);
+        if (!claims.isRefreshToken() || !revocationIndex.revoke(claims.getId(), claims.getExpiresAtMillis())) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+
+        UserDetails userDetails;
+        try {
+            // Served from the user cache; picks up role changes and deleted users
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+        return issueTokens(userDetails);
+    }
+
+    /**
+     * Revokes the given tokens until they expire. Invalid or expired tokens are ignored.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        for (String token : new String[] {accessToken, refreshToken}) {
+            if (token == null || token.isBlank()) {
+                continue;
+            }
+            try {
+                TokenClaims claims = jwtUtil.parseToken(token);
+                revocationIndex.revoke(claims.getId(), claims.getExpiresAtMillis());
+            } catch (JwtException | IllegalArgumentException e) {
+                // Nothing to revoke
+            }
+        }
+    }
+
+    private TokenClaims parse(String token) {
+        try {
+            return jwtUtil.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+    }
+
+    private AuthResponse issueTokens(UserDetails userDetails) {
         String token = jwtUtil.generateToken(userDetails);
-        
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        return new AuthResponse(token, user.getRole(), user.getUsername());
+        String refreshToken = jwtUtil.generateRefreshToken(userDetails.getUsername());
+        String role = userDetails.getAuthorities().stream()
+                .findFirst()
+                .map(authority -> authority.getAuthority().replace("ROLE_", ""))
+                .orElse("USER");
+
+        return new AuthResponse(token, role, userDetails.getUsername(), refreshToken, jwtUtil.getExpiration() / 1000);
     }
 }
@@ -0,0 +1,385 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes shift board changes to open {@code GET /api/shifts/stream} connections as
+ * Server-Sent Events. Events are published after commit, serialised once, and fanned out
+ * to a bounded queue per subscriber; a subscriber whose queue overflows is disconnected and
+ * can resume from its last event id while that event is still in the replay buffer. A
+ * subscriber whose connection stops accepting writes is dropped once a send has been
+ * blocked longer than the send timeout, and the sender pool grows by a thread until that
+ * send returns, so one stalled client cannot hold up the others.
+ * Events only reach subscribers connected to the instance that made the change.
+ */
+@Service
+public class BoardEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardEventBroadcaster.class);
+
+    static final String SHIFT_CREATED = "shift-created";
+    static final String SHIFT_DELETED = "shift-deleted";
+    static final String EMPLOYEE_UPDATED = "employee-updated";
+    static final String EMPLOYEE_DELETED = "employee-deleted";
+    // Tells the client to refetch instead of applying deltas
+    static final String RESYNC = "resync";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${board.events.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${board.events.subscriber-buffer:256}")
+    private int subscriberBuffer;
+
+    @Value("${board.events.max-batch:100}")
+    private int maxBatch;
+
+    @Value("${board.events.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${board.events.send-timeout:10000}")
+    private long sendTimeout;
+
+    @Value("${board.events.heartbeat:30000}")
+    private long heartbeat;
+
+    @Value("${board.events.timeout:1800000}")
+    private long timeout;
+
+    // Distinguishes ids issued before a restart, which can no longer be resumed
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<BoardEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence;
+
+    private ThreadPoolExecutor senders;
+    private ScheduledExecutorService heartbeats;
+    // Sender threads still blocked in a send whose subscriber was dropped
+    private int stalledSenders;
+
+    @PostConstruct
+    void init() {
+        senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemon("board-events-"));
+        heartbeats = Executors.newSingleThreadScheduledExecutor(daemon("board-events-heartbeat-"));
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        long stallCheck = Math.max(sendTimeout / 2, 100);
+        heartbeats.scheduleAtFixedRate(this::dropStalledSubscribers, stallCheck, stallCheck, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        senders.shutdown();
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout));
+        // Replaying and registering under the publish lock leaves no gap and no duplicates
+        synchronized (this) {
+            List<BoardEvent> replay = eventsAfter(lastEventId);
+            if (replay == null || replay.size() > subscriberBuffer) {
+                subscriber.offer(resyncEvent("Events since " + lastEventId + " are no longer available"));
+            } else {
+                replay.forEach(subscriber::offer);
+            }
+            subscribers.add(subscriber);
+        }
+        return subscriber.emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public void shiftsCreated(Collection<Shift> shifts) {
+        if (shifts.size() > maxBatch) {
+            TransactionCallbacks.afterCommit(() -> publish(RESYNC, Map.of("reason", shifts.size() + " shifts imported")));
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> shifts.forEach(shift -> publish(SHIFT_CREATED, shift)));
+    }
+
+    public void shiftDeleted(Shift shift) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", shift.getId());
+        payload.put("employeeId", shift.getEmployeeId());
+        payload.put("date", shift.getDate());
+        TransactionCallbacks.afterCommit(() -> publish(SHIFT_DELETED, payload));
+    }
+
+    public void employeesUpdated(Collection<Employee> employees) {
+        if (employees.size() > maxBatch) {
+            TransactionCallbacks.afterCommit(() -> publish(RESYNC, Map.of("reason", employees.size() + " employees imported")));
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> employees.forEach(employee -> publish(EMPLOYEE_UPDATED, employee)));
+    }
+
+    public void employeeDeleted(Long id) {
+        TransactionCallbacks.afterCommit(() -> publish(EMPLOYEE_DELETED, Map.of("id", id)));
+    }
+
+    private void publish(String name, Object payload) {
+        // Serialised once here, not once per subscriber
+        String data = objectMapper.writeValueAsString(payload);
+        // Offers never block, so fanning out under the lock keeps every subscriber in id order
+        synchronized (this) {
+            BoardEvent event = new BoardEvent(epoch + "-" + (++sequence), name, data);
+            history.addLast(event);
+            if (history.size() > replaySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    /**
+     * Events published after the given id, an empty list for a fresh subscription, or
+     * {@code null} when the id can no longer be resumed from.
+     */
+    private List<BoardEvent> eventsAfter(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = sequence - history.size() + 1;
+        if (lastSequence < oldest - 1 || lastSequence > sequence) {
+            return null;
+        }
+        List<BoardEvent> replay = new ArrayList<>();
+        long current = oldest;
+        for (BoardEvent event : history) {
+            if (current++ > lastSequence) {
+                replay.add(event);
+            }
+        }
+        return replay;
+    }
+
+    private BoardEvent resyncEvent(String reason) {
+        return new BoardEvent(null, RESYNC, objectMapper.writeValueAsString(Map.of("reason", reason)));
+    }
+
+    private void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(BoardEvent.HEARTBEAT));
+    }
+
+    private void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.forEach(subscriber -> subscriber.dropIfStalled(now));
+    }
+
+    /**
+     * Keeps {@code senderThreads} threads free for healthy subscribers while others are
+     * stuck writing to connections that no longer read.
+     */
+    private void adjustStalledSenders(int delta) {
+        synchronized (senders) {
+            stalledSenders += delta;
+            int size = senderThreads + stalledSenders;
+            if (delta > 0) {
+                senders.setMaximumPoolSize(size);
+                senders.setCorePoolSize(size);
+            } else {
+                senders.setCorePoolSize(size);
+                senders.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record BoardEvent(String id, String name, String data) {
+        static final BoardEvent HEARTBEAT = new BoardEvent(null, null, null);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<BoardEvent> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+        // When the send in progress started (System.nanoTime), 0 between sends
+        private long sendingSince;
+        private boolean stalled;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(this::remove);
+            emitter.onTimeout(this::expire);
+            emitter.onError(error -> remove());
+        }
+
+        void offer(BoardEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // Slow client: drop it rather than buffer without bound; it resumes by event id
+                log.debug("Disconnecting board event subscriber with {} undelivered events", queue.size());
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                BoardEvent event;
+                while (!closed && (event = queue.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                if (closed) {
+                    // draining stays set: nothing is scheduled for this subscriber again
+                    complete();
+                } else {
+                    draining.set(false);
+                    if ((closed || !queue.isEmpty()) && draining.compareAndSet(false, true)) {
+                        senders.execute(this::drain);
+                    }
+                }
+            }
+        }
+
+        private void send(BoardEvent event) throws IOException {
+            synchronized (this) {
+                sendingSince = System.nanoTime();
+            }
+            try {
+                if (event == BoardEvent.HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    return;
+                }
+                SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                        .name(event.name())
+                        .data(event.data(), MediaType.APPLICATION_JSON);
+                if (event.id() != null) {
+                    builder.id(event.id());
+                }
+                emitter.send(builder);
+            } finally {
+                sendFinished();
+            }
+        }
+
+        private void sendFinished() {
+            boolean wasStalled;
+            synchronized (this) {
+                sendingSince = 0;
+                wasStalled = stalled;
+                stalled = false;
+            }
+            if (wasStalled) {
+                adjustStalledSenders(-1);
+            }
+        }
+
+        /**
+         * Drops the subscriber when its current send has been blocked too long. The connection
+         * is completed by the sending thread once the write returns.
+         */
+        void dropIfStalled(long now) {
+            synchronized (this) {
+                if (stalled || sendingSince == 0 || now - sendingSince < TimeUnit.MILLISECONDS.toNanos(sendTimeout)) {
+                    return;
+                }
+                stalled = true;
+            }
+            log.debug("Disconnecting board event subscriber blocked in a send for over {} ms", sendTimeout);
+            adjustStalledSenders(1);
+            close();
+        }
+
+        /**
+         * Stops delivery and leaves completing the emitter to a sender thread. A send in
+         * progress holds the emitter's write lock, and this may run under the publish lock,
+         * so completing here could stall every publisher behind one slow connection.
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            remove();
+            queue.clear();
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        // The container expects the emitter to be completed before its timeout callback returns
+        private void expire() {
+            remove();
+            queue.clear();
+            complete();
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        private void remove() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.employeeboard.employee.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hit/miss counters of Hibernate's second-level and query caches since startup.
+ */
+@Service
+public class CacheStatisticsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public Map<String, Map<String, Long>> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Map<String, Long>> regions = new LinkedHashMap<>();
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, counters(regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                        regionStatistics.getPutCount()));
+            }
+        }
+        regions.put("queries", counters(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount()));
+        return regions;
+    }
+
+    private Map<String, Long> counters(long hits, long misses, long puts) {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("hits", hits);
+        counters.put("misses", misses);
+        counters.put("puts", puts);
+        return counters;
+    }
+}
@@ -0,0 +1,94 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.ChangeEvent;
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+import com.employeeboard.employee.repository.ChangeOutboxRepository;
+import com.employeeboard.employee.repository.EmployeeRepository;
+import com.employeeboard.employee.repository.ChangeOutboxRepository.PendingChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records shift and employee changes in the {@code change_outbox} table as part of the
+ * transaction that makes them, so an event exists exactly when its change was committed.
+ * {@link OutboxDispatcher} delivers them to the sinks afterwards. Called last in each write,
+ * after the entities have been flushed and carry their final ids and versions.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ChangeOutbox {
+
+    @Autowired
+    private ChangeOutboxRepository outboxRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${outbox.enabled:true}")
+    private boolean enabled;
+
+    public void shiftsCreated(Collection<Shift> shifts) {
+        Instant now = Instant.now();
+        List<PendingChange> changes = new ArrayList<>(shifts.size());
+        for (Shift shift : shifts) {
+            changes.add(shiftChange(ChangeEvent.SHIFT_CREATED, shift, now));
+        }
+        write(changes);
+    }
+
+    public void shiftDeleted(Shift shift) {
+        write(List.of(shiftChange(ChangeEvent.SHIFT_DELETED, shift, Instant.now())));
+    }
+
+    public void employeesCreated(Collection<Employee> employees) {
+        Instant now = Instant.now();
+        List<PendingChange> changes = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            changes.add(employeeChange(ChangeEvent.EMPLOYEE_CREATED, employee, now));
+        }
+        write(changes);
+    }
+
+    public void employeeUpdated(Employee employee) {
+        write(List.of(employeeChange(ChangeEvent.EMPLOYEE_UPDATED, employee, Instant.now())));
+    }
+
+    public void employeeDeleted(Employee employee) {
+        write(List.of(employeeChange(ChangeEvent.EMPLOYEE_DELETED, employee, Instant.now())));
+    }
+
+    private PendingChange shiftChange(String type, Shift shift, Instant now) {
+        return new PendingChange(type, shift.getEmployeeId(), shift.getId(), objectMapper.writeValueAsString(shift), now);
+    }
+
+    private PendingChange employeeChange(String type, Employee employee, Instant now) {
+        return new PendingChange(type, employee.getId(), employee.getId(), objectMapper.writeValueAsString(employee), now);
+    }
+
+    private void write(List<PendingChange> changes) {
+        if (!enabled || changes.isEmpty()) {
+            return;
+        }
+        // Shift writers hold these already. Other writers for the employee wait until this transaction
+        // ends, so their rows get higher ids: per employee, id order is commit order
+        employeeRepository.lockForWrite(changes.stream().map(PendingChange::employeeId).toList());
+        outboxRepository.insert(changes);
+        TransactionCallbacks.afterCommit(dispatcher::wake);
+    }
+}
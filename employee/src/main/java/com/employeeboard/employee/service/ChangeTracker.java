@@ -0,0 +1,87 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.repository.ChangeCounterRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps per-collection and per-date change counters in the database, so every instance
+ * derives the same ETag for the same data without loading the rows. Each scope is split
+ * into {@code change-counters.shards} rows and a version is the sum of its shards: the bump
+ * holds its row lock until commit, and writers for unrelated employees on the same day
+ * would otherwise queue behind one row.
+ */
+@Service
+public class ChangeTracker {
+
+    private static final String EMPLOYEES = "employees";
+    private static final String SHIFTS_PREFIX = "shifts:";
+    private static final String SHARD_SEPARATOR = "#";
+
+    @Autowired
+    private ChangeCounterRepository changeCounterRepository;
+
+    @Value("${change-counters.shards:16}")
+    private int shards;
+
+    @Transactional
+    public void employeesChanged() {
+        changeCounterRepository.increment(EMPLOYEES + shard());
+    }
+
+    @Transactional
+    public void shiftsChanged(Collection<LocalDate> dates) {
+        // One shard for the whole write, dates sorted, so concurrent writers lock counter rows in the same order
+        String shard = shard();
+        for (LocalDate date : new TreeSet<>(dates)) {
+            changeCounterRepository.increment(SHIFTS_PREFIX + date + shard);
+        }
+    }
+
+    public CollectionVersion employeesVersion() {
+        Object[] employees = summarizeEmployees();
+        return new CollectionVersion("e" + employees[0], (Instant) employees[1]);
+    }
+
+    public CollectionVersion shiftsVersion(LocalDate from, LocalDate to, boolean includeEmployees) {
+        Object[] shifts = summarize(changeCounterRepository.summarize(SHIFTS_PREFIX + from, SHIFTS_PREFIX + to.plusDays(1)));
+        String etag = "s" + from + "." + to + "." + shifts[0];
+        Instant lastModified = (Instant) shifts[1];
+
+        if (includeEmployees) {
+            Object[] employees = summarizeEmployees();
+            etag += ".e" + employees[0];
+            lastModified = latest(lastModified, (Instant) employees[1]);
+        }
+        return new CollectionVersion(etag, lastModified);
+    }
+
+    private Object[] summarizeEmployees() {
+        return summarize(changeCounterRepository.summarizeScope(EMPLOYEES, EMPLOYEES + SHARD_SEPARATOR + "%"));
+    }
+
+    private Object[] summarize(List<Object[]> rows) {
+        return rows.isEmpty() ? new Object[] {0L, null} : rows.get(0);
+    }
+
+    // Writers for the same employee are already serialised, so any spread over the shards will do
+    private String shard() {
+        return SHARD_SEPARATOR + ThreadLocalRandom.current().nextInt(shards);
+    }
+
+    private Instant latest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
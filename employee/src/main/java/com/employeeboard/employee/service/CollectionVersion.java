@@ -0,0 +1,28 @@
+package com.employeeboard.employee.service;
+
+import java.time.Instant;
+
+/**
+ * Version of a collection as seen by a read endpoint: an ETag and, when known, the time
+ * of the last change. The tag is weak: it names the data, which is served in several
+ * encodings and may be gzipped on the way out (Tomcat leaves strong-tagged responses
+ * uncompressed).
+ */
+public class CollectionVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    public CollectionVersion(String etag, Instant lastModified) {
+        this.etag = "W/\"" + etag + "\"";
+        this.lastModified = lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,61 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.repository.ShiftRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folds the coverage deltas appended by shift writes into {@code shift_coverage_hourly}
+ * every {@code analytics.coverage.fold-interval} ms. Coverage reads add the deltas that are
+ * still pending, so the interval only bounds how many of them a read has to sum.
+ */
+@Service
+public class CoverageFolder {
+
+    private static final Logger log = LoggerFactory.getLogger(CoverageFolder.class);
+
+    @Autowired
+    private ShiftRepository shiftRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.coverage.fold-interval:1000}")
+    private long interval;
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coverage-folder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::fold, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void fold() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> shiftRepository.foldCoverage());
+        } catch (RuntimeException e) {
+            // Nothing is lost: the deltas stay and are folded on the next run
+            log.warn("Folding coverage deltas failed: {}", e.toString());
+        }
+    }
+}
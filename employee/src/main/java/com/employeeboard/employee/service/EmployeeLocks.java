@@ -0,0 +1,66 @@
+package com.employeeboard.employee.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped per-employee locks. Writers for the same employee are serialised while writers
+ * for unrelated employees only contend when they hash to the same stripe.
+ */
+@Component
+public class EmployeeLocks {
+
+    @Value("${shifts.locks.stripes:64}")
+    private int stripeCount;
+
+    private ReentrantLock[] stripes;
+
+    @PostConstruct
+    void init() {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(Long employeeId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeFor(employeeId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T withLocks(Collection<Long> employeeIds, Supplier<T> action) {
+        // Always acquire stripes in ascending order so two batches cannot deadlock
+        TreeSet<Integer> indexes = new TreeSet<>();
+        employeeIds.forEach(employeeId -> indexes.add(stripeFor(employeeId)));
+
+        Deque<ReentrantLock> held = new ArrayDeque<>();
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                held.push(stripes[index]);
+            }
+            return action.get();
+        } finally {
+            while (!held.isEmpty()) {
+                held.pop().unlock();
+            }
+        }
+    }
+
+    private int stripeFor(Long employeeId) {
+        return Math.floorMod(Long.hashCode(employeeId), stripes.length);
+    }
+}
@@ -1,12 +1,28 @@
 package com.employeeboard.employee.service;
 
+import com.employeeboard.employee.dto.BulkImportResponse;
+import com.employeeboard.employee.dto.BulkRowResult;
+import com.employeeboard.employee.dto.CursorPage;
 import com.employeeboard.employee.model.Employee;
 import com.employeeboard.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class EmployeeService {
@@ -14,36 +30,221 @@ public class EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private RosterService rosterService;
+
+    @Autowired
+    private ChangeTracker changeTracker;
+
+    @Autowired
+    private LaborAnalyticsService laborAnalytics;
+
+    @Autowired
+    private BoardEventBroadcaster boardEvents;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${pagination.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${employees.bulk.max-rows:20000}")
+    private int maxBulkRows;
+
+    private static final int CODE_LOOKUP_CHUNK = 1000;
+
+    public CollectionVersion getEmployeesVersion() {
+        return changeTracker.employeesVersion();
+    }
+
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    public CursorPage<Employee> getEmployeesPage(Long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageLimit));
+        List<Employee> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after : 0L, Limit.of(pageSize));
+        Long nextAfter = employees.size() == pageSize ? employees.get(employees.size() - 1).getId() : null;
+        return new CursorPage<>(employees, nextAfter, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamEmployees(Consumer<? super Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAllByOrderByIdAsc()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                // Keep the persistence context empty so memory stays flat for any table size
+                entityManager.detach(employee);
+            });
+        }
+    }
+
     public Optional<Employee> getEmployeeById(Long id) {
         return employeeRepository.findById(id);
     }
 
+    @Transactional
     public Employee createEmployee(Employee employee) {
         // Auto-generate employee code if not provided or empty
-        if (employee.getEmployeeCode() == null || employee.getEmployeeCode().trim().isEmpty()) {
-            Employee savedEmployee = employeeRepository.save(employee);
-            savedEmployee.setEmployeeCode("EMP" + String.format("%03d", savedEmployee.getId()));
-            return employeeRepository.save(savedEmployee);
+        if (isBlank(employee.getEmployeeCode())) {
+            // Reserve the id first so the generated code goes out with the single INSERT
+            Long id = employeeRepository.reserveIds(1).get(0);
+            employee.setId(id);
+            employee.setEmployeeCode(formatEmployeeCode(id));
+            employeeRepository.insertAll(List.of(employee));
+            rosterService.onEmployeesChanged();
+            changeTracker.employeesChanged();
+            boardEvents.employeesUpdated(List.of(employee));
+            changeOutbox.employeesCreated(List.of(employee));
+            return employee;
         }
-        return employeeRepository.save(employee);
+        employee.setVersion(null);
+        Employee saved = employeeRepository.save(employee);
+        rosterService.onEmployeesChanged();
+        changeTracker.employeesChanged();
+        boardEvents.employeesUpdated(List.of(saved));
+        changeOutbox.employeesCreated(List.of(saved));
+        return saved;
     }
 
+    @Transactional
+    public BulkImportResponse importEmployees(List<Employee> employees, boolean allOrNothing) {
+        if (employees.size() > maxBulkRows) {
+            throw new IllegalArgumentException("Bulk import is limited to " + maxBulkRows + " rows");
+        }
+
+        List<BulkRowResult> results = new ArrayList<>(employees.size());
+        List<Integer> candidateRows = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            String error = validateBulkRow(employees.get(i));
+            results.add(error != null ? BulkRowResult.rejected(i + 1, error) : null);
+            if (error == null) {
+                candidateRows.add(i);
+            }
+        }
+
+        // One round trip reserves the whole id block; codes are assigned before anything is inserted
+        List<Long> ids = employeeRepository.reserveIds(candidateRows.size());
+        for (int i = 0; i < candidateRows.size(); i++) {
+            Employee employee = employees.get(candidateRows.get(i));
+            employee.setId(ids.get(i));
+            if (isBlank(employee.getEmployeeCode())) {
+                employee.setEmployeeCode(formatEmployeeCode(employee.getId()));
+            } else {
+                employee.setEmployeeCode(employee.getEmployeeCode().trim());
+            }
+        }
+
+        Set<String> takenCodes = findExistingCodes(candidateRows.stream()
+                .map(row -> employees.get(row).getEmployeeCode())
+                .toList());
+        List<Employee> accepted = new ArrayList<>();
+        List<Integer> acceptedRows = new ArrayList<>();
+        for (int row : candidateRows) {
+            Employee employee = employees.get(row);
+            if (!takenCodes.add(employee.getEmployeeCode())) {
+                results.set(row, BulkRowResult.rejected(row + 1,
+                        "Employee code " + employee.getEmployeeCode() + " is already in use"));
+                continue;
+            }
+            accepted.add(employee);
+            acceptedRows.add(row);
+        }
+
+        if (allOrNothing && accepted.size() < employees.size()) {
+            for (int row : acceptedRows) {
+                results.set(row, BulkRowResult.rejected(row + 1, "Not imported: the batch contains invalid rows"));
+            }
+            return new BulkImportResponse(results, true);
+        }
+
+        employeeRepository.insertAll(accepted);
+        if (!accepted.isEmpty()) {
+            rosterService.onEmployeesChanged();
+            changeTracker.employeesChanged();
+            boardEvents.employeesUpdated(accepted);
+            changeOutbox.employeesCreated(accepted);
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            int row = acceptedRows.get(i);
+            results.set(row, BulkRowResult.created(row + 1, accepted.get(i).getId()));
+        }
+        return new BulkImportResponse(results, allOrNothing);
+    }
+
+    private String validateBulkRow(Employee employee) {
+        if (employee == null) {
+            return "Row is empty";
+        }
+        // The code is optional here: blank codes are generated from the reserved id
+        for (String property : List.of("name", "department")) {
+            Set<ConstraintViolation<Employee>> violations = validator.validateProperty(employee, property);
+            if (!violations.isEmpty()) {
+                return property + ": " + violations.iterator().next().getMessage();
+            }
+        }
+        return null;
+    }
+
+    private Set<String> findExistingCodes(List<String> codes) {
+        Set<String> existing = new HashSet<>();
+        for (int start = 0; start < codes.size(); start += CODE_LOOKUP_CHUNK) {
+            List<String> chunk = codes.subList(start, Math.min(start + CODE_LOOKUP_CHUNK, codes.size()));
+            existing.addAll(employeeRepository.findExistingCodes(chunk));
+        }
+        return existing;
+    }
+
+    private String formatEmployeeCode(Long id) {
+        return "EMP" + String.format("%03d", id);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    @Transactional
     public Employee updateEmployee(Long id, Employee employeeDetails) {
+        // Taken before any row, in the same order as shift writers, so the two cannot deadlock
+        employeeRepository.lockForWrite(List.of(id));
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
         
+        String oldDepartment = employee.getDepartment();
+        Long oldVersion = employee.getVersion();
         employee.setName(employeeDetails.getName());
         employee.setEmployeeCode(employeeDetails.getEmployeeCode());
         employee.setDepartment(employeeDetails.getDepartment());
         
-        return employeeRepository.save(employee);
+        // Flushed here so the change event carries the new version
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        laborAnalytics.onDepartmentChanged(id, oldDepartment, saved.getDepartment());
+        rosterService.onEmployeesChanged();
+        changeTracker.employeesChanged();
+        boardEvents.employeesUpdated(List.of(saved));
+        // An update that changed nothing writes no row, so it has no change event either
+        if (!Objects.equals(oldVersion, saved.getVersion())) {
+            changeOutbox.employeeUpdated(saved);
+        }
+        return saved;
     }
 
+    @Transactional
     public void deleteEmployee(Long id) {
+        employeeRepository.lockForWrite(List.of(id));
+        Optional<Employee> existing = employeeRepository.findById(id);
+        existing.ifPresent(employee -> laborAnalytics.onEmployeeDeleted(id, employee.getDepartment()));
         employeeRepository.deleteById(id);
+        rosterService.onEmployeesChanged();
+        changeTracker.employeesChanged();
+        boardEvents.employeeDeleted(id);
+        existing.ifPresent(changeOutbox::employeeDeleted);
     }
 }
@@ -0,0 +1,80 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.ChangeEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events to a local file as newline-delimited JSON, standing in for a message broker.
+ * Each batch is forced to disk before the dispatcher deletes it from the outbox, so a crash
+ * can repeat lines but not lose them. Enabled by setting {@code outbox.sinks.file.path}.
+ */
+@Component
+public class FileOutboxSink implements OutboxSink {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${outbox.sinks.file.path:}")
+    private String path;
+
+    // Only the dispatcher thread writes
+    private FileChannel channel;
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !path.isBlank();
+    }
+
+    @Override
+    public void deliver(List<ChangeEvent> events) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(events.size() * 256);
+        for (ChangeEvent event : events) {
+            objectMapper.writeValue(lines, event);
+            lines.write('\n');
+        }
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(Path.of(path),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // Opened afresh for the retry rather than reused after a failed write
+            close();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Nothing left to flush: every batch was forced when it was written
+            }
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.DepartmentCoverage;
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+import com.employeeboard.employee.repository.EmployeeRepository;
+import com.employeeboard.employee.repository.ShiftAggregateRepository.CoverageDelta;
+import com.employeeboard.employee.repository.ShiftAggregateRepository.HoursDelta;
+import com.employeeboard.employee.repository.ShiftRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Scheduled hours per employee or department per week, and hourly headcount per department
+ * per day, read from aggregate tables instead of the shifts. The shift and employee services
+ * report every change here in their own transaction, so the aggregates commit or roll back
+ * with it and every instance reads the same numbers. Coverage changes are appended rather
+ * than upserted, since a department's writers on one day would all update the same rows;
+ * {@link CoverageFolder} folds them into the aggregate.
+ *
+ * <p>Hours count towards the week a shift starts in; an overnight shift's hours of presence
+ * count towards the day they fall on. Hours are joined with the employees' current department.
+ */
+@Service
+public class LaborAnalyticsService {
+
+    public static final String BY_EMPLOYEE = "employee";
+    public static final String BY_DEPARTMENT = "department";
+
+    private static final Comparator<HoursDelta> HOURS_ORDER =
+            Comparator.comparing(HoursDelta::weekStart).thenComparingLong(HoursDelta::employeeId);
+    private static final Comparator<CoverageDelta> COVERAGE_ORDER =
+            Comparator.comparing(CoverageDelta::date).thenComparing(CoverageDelta::department).thenComparingInt(CoverageDelta::hour);
+
+    @Autowired
+    private ShiftRepository shiftRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ChangeTracker changeTracker;
+
+    @Value("${shifts.query.max-range-days:366}")
+    private long maxRangeDays;
+
+    public void onShiftsCreated(Collection<Shift> shifts) {
+        apply(shifts, departmentsOf(shifts), 1);
+    }
+
+    public void onShiftDeleted(Shift shift) {
+        apply(List.of(shift), departmentsOf(List.of(shift)), -1);
+    }
+
+    /**
+     * Moves the employee's coverage to their new department; their hours follow by themselves.
+     */
+    public void onDepartmentChanged(Long employeeId, String oldDepartment, String newDepartment) {
+        if (oldDepartment.equals(newDepartment)) {
+            return;
+        }
+        List<Shift> shifts = shiftRepository.findByEmployeeId(employeeId);
+        Map<CoverageDelta, Integer> coverage = new TreeMap<>(COVERAGE_ORDER);
+        addCoverage(coverage, shifts, oldDepartment, -1);
+        addCoverage(coverage, shifts, newDepartment, 1);
+        shiftRepository.addCoverage(toCoverageDeltas(coverage));
+    }
+
+    // Shifts of a deleted employee stay in the table but no longer count anywhere
+    public void onEmployeeDeleted(Long employeeId, String department) {
+        Map<CoverageDelta, Integer> coverage = new TreeMap<>(COVERAGE_ORDER);
+        addCoverage(coverage, shiftRepository.findByEmployeeId(employeeId), department, -1);
+        shiftRepository.addCoverage(toCoverageDeltas(coverage));
+        shiftRepository.deleteHours(employeeId);
+    }
+
+    /**
+     * Recomputes the aggregates around {@code from..to} after shifts were written over JDBC.
+     * Not safe against concurrent shift writes in the same range.
+     */
+    @Transactional
+    public void rebuild(LocalDate from, LocalDate to) {
+        shiftRepository.rebuildAggregates(from, to);
+    }
+
+    public CollectionVersion getHoursVersion(LocalDate from, LocalDate to) {
+        LocalDate[] weeks = resolveWeeks(from, to);
+        return changeTracker.shiftsVersion(weeks[0], weeks[1].plusDays(6), true);
+    }
+
+    // Transactional so the JDBC reads share the request's connection instead of taking a second one
+    @Transactional(readOnly = true)
+    public List<?> getHours(LocalDate from, LocalDate to, String groupBy, String department) {
+        LocalDate[] weeks = resolveWeeks(from, to);
+        String filter = normalize(department);
+        if (groupBy == null || BY_EMPLOYEE.equals(groupBy)) {
+            return shiftRepository.findEmployeeHours(weeks[0], weeks[1], filter);
+        }
+        if (BY_DEPARTMENT.equals(groupBy)) {
+            return shiftRepository.findDepartmentHours(weeks[0], weeks[1], filter);
+        }
+        throw new IllegalArgumentException("groupBy must be '" + BY_EMPLOYEE + "' or '" + BY_DEPARTMENT + "'");
+    }
+
+    // Overnight shifts from the day before reach into the first day
+    public CollectionVersion getCoverageVersion(LocalDate from, LocalDate to) {
+        LocalDate[] range = resolveRange(from, to);
+        return changeTracker.shiftsVersion(range[0].minusDays(1), range[1], true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DepartmentCoverage> getCoverage(LocalDate from, LocalDate to, String department) {
+        LocalDate[] range = resolveRange(from, to);
+        return shiftRepository.findCoverage(range[0], range[1], normalize(department));
+    }
+
+    private void apply(Collection<Shift> shifts, Map<Long, String> departments, int sign) {
+        if (shifts.isEmpty()) {
+            return;
+        }
+        // Keyed by the deltas' identity fields only, and sorted so concurrent writers lock
+        // aggregate rows in the same order
+        Map<HoursDelta, long[]> hours = new TreeMap<>(HOURS_ORDER);
+        Map<CoverageDelta, Integer> coverage = new TreeMap<>(COVERAGE_ORDER);
+        for (Shift shift : shifts) {
+            String department = departments.get(shift.getEmployeeId());
+            if (department == null) {
+                continue;
+            }
+            long[] total = hours.computeIfAbsent(new HoursDelta(weekStart(shift.getDate()), shift.getEmployeeId(), 0, 0),
+                    key -> new long[2]);
+            total[0] += sign * ShiftService.shiftMinutes(shift.getStartTime(), shift.getEndTime());
+            total[1] += sign;
+            addCoverage(coverage, List.of(shift), department, sign);
+        }
+
+        List<HoursDelta> hourDeltas = new ArrayList<>(hours.size());
+        hours.forEach((key, total) -> hourDeltas.add(new HoursDelta(key.weekStart(), key.employeeId(), total[0], (int) total[1])));
+        shiftRepository.addHours(hourDeltas);
+        shiftRepository.addCoverage(toCoverageDeltas(coverage));
+    }
+
+    // A shift counts in every hour it overlaps; overnight shifts end on the following day
+    private void addCoverage(Map<CoverageDelta, Integer> coverage, Collection<Shift> shifts, String department, int sign) {
+        for (Shift shift : shifts) {
+            LocalDateTime start = shift.getDate().atTime(shift.getStartTime());
+            LocalDateTime end = shift.getDate().atTime(shift.getEndTime());
+            if (!shift.getEndTime().isAfter(shift.getStartTime())) {
+                end = end.plusDays(1);
+            }
+            for (LocalDateTime hour = start.truncatedTo(ChronoUnit.HOURS); hour.isBefore(end); hour = hour.plusHours(1)) {
+                coverage.merge(new CoverageDelta(hour.toLocalDate(), department, hour.getHour(), 0), sign, Integer::sum);
+            }
+        }
+    }
+
+    private List<CoverageDelta> toCoverageDeltas(Map<CoverageDelta, Integer> coverage) {
+        List<CoverageDelta> deltas = new ArrayList<>(coverage.size());
+        coverage.forEach((key, headcount) -> {
+            if (headcount != 0) {
+                deltas.add(new CoverageDelta(key.date(), key.department(), key.hour(), headcount));
+            }
+        });
+        return deltas;
+    }
+
+    private Map<Long, String> departmentsOf(Collection<Shift> shifts) {
+        Set<Long> ids = new HashSet<>();
+        shifts.forEach(shift -> ids.add(shift.getEmployeeId()));
+        Map<Long, String> departments = new HashMap<>();
+        if (ids.size() == 1) {
+            // findById is answered from the second-level cache
+            employeeRepository.findById(ids.iterator().next())
+                    .ifPresent(employee -> departments.put(employee.getId(), employee.getDepartment()));
+        } else {
+            for (Employee employee : employeeRepository.findAllById(ids)) {
+                departments.put(employee.getId(), employee.getDepartment());
+            }
+        }
+        return departments;
+    }
+
+    private LocalDate[] resolveWeeks(LocalDate from, LocalDate to) {
+        LocalDate[] range = resolveRange(from, to);
+        return new LocalDate[] {weekStart(range[0]), weekStart(range[1])};
+    }
+
+    private LocalDate[] resolveRange(LocalDate from, LocalDate to) {
+        // Without explicit bounds, default to the current week
+        if (from == null && to == null) {
+            from = weekStart(LocalDate.now());
+            to = from.plusDays(6);
+        } else if (from == null) {
+            from = to.minusDays(6);
+        } else if (to == null) {
+            to = from.plusDays(6);
+        }
+
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new IllegalArgumentException("Date range must not exceed " + maxRangeDays + " days");
+        }
+        return new LocalDate[] {from, to};
+    }
+
+    private static String normalize(String department) {
+        return department == null || department.trim().isEmpty() ? null : department.trim();
+    }
+
+    private static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
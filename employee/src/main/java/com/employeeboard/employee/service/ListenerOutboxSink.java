@@ -0,0 +1,39 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.ChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes each event in-process, to any {@code @EventListener} method taking a
+ * {@link ChangeEvent}. Listeners run synchronously on the dispatcher thread; one that throws
+ * causes the batch to be delivered again.
+ */
+@Component
+public class ListenerOutboxSink implements OutboxSink {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${outbox.sinks.listeners.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public String getName() {
+        return "listeners";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void deliver(List<ChangeEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,39 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.ChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Logs every event at INFO, one line each. Meant for development and for following the
+ * pipeline while a real broker is not connected.
+ */
+@Component
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LogOutboxSink.class);
+
+    @Value("${outbox.sinks.log.enabled:false}")
+    private boolean enabled;
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void deliver(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            log.info("{} #{} employee={} {}", event.getType(), event.getId(), event.getEmployeeId(), event.getPayload());
+        }
+    }
+}
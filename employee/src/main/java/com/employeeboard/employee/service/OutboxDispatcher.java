@@ -0,0 +1,200 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.ChangeEvent;
+import com.employeeboard.employee.repository.ChangeOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains {@code change_outbox} in id order, one batch per transaction: the batch goes to every
+ * enabled {@link OutboxSink} and is deleted only once all of them accepted it, so delivery is
+ * at least once. A failed batch stays at the head of the outbox and is retried with
+ * exponential backoff; later events wait behind it, which keeps each employee's events in
+ * order. Runs after every committing write and every {@code outbox.dispatch.interval} to pick
+ * up events written on other instances; only one instance drains at a time.
+ *
+ * <p>Meters: {@code outbox.lag} (age of the oldest undelivered event), {@code outbox.delivery}
+ * (time from write to delivery), {@code outbox.events} and {@code outbox.failures} per sink.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private ChangeOutboxRepository outboxRepository;
+
+    @Autowired
+    private List<OutboxSink> sinks;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${outbox.dispatch.interval:1000}")
+    private long interval;
+
+    @Value("${outbox.dispatch.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.dispatch.max-backoff:60000}")
+    private long maxBackoff;
+
+    private final AtomicBoolean wakeScheduled = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+    private Timer deliveryTimer;
+    // Written by the dispatcher thread only
+    private volatile Instant oldestPending;
+    private int consecutiveFailures;
+    private long retryAt;
+
+    @PostConstruct
+    void init() {
+        deliveryTimer = Timer.builder("outbox.delivery")
+                .description("Time from writing a change event to its delivery to every sink")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("outbox.lag", this, dispatcher -> dispatcher.lagSeconds())
+                .description("Age of the oldest change event not yet delivered, 0 when the outbox is empty")
+                .baseUnit("seconds")
+                .register(registry);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::dispatch, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            // Let a batch in flight finish instead of interrupting a sink mid-write
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Asks for a dispatch as soon as possible. Wakes arriving while one is already queued
+     * are folded into it.
+     */
+    public void wake() {
+        if (wakeScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    wakeScheduled.set(false);
+                    dispatch();
+                });
+            } catch (RuntimeException e) {
+                // Shutting down: the next start picks the events up
+                wakeScheduled.set(false);
+            }
+        }
+    }
+
+    private void dispatch() {
+        if (System.currentTimeMillis() < retryAt) {
+            return;
+        }
+        try {
+            // A full batch may have more behind it
+            List<ChangeEvent> delivered;
+            do {
+                delivered = dispatchBatch();
+                Instant now = Instant.now();
+                for (ChangeEvent event : delivered) {
+                    deliveryTimer.record(Duration.between(event.getOccurredAt(), now));
+                }
+            } while (delivered.size() == batchSize);
+            consecutiveFailures = 0;
+            oldestPending = outboxRepository.findOldestCreatedAt();
+        } catch (RuntimeException e) {
+            consecutiveFailures++;
+            long backoff = Math.min(maxBackoff, interval << Math.min(consecutiveFailures, 20));
+            retryAt = System.currentTimeMillis() + backoff;
+            log.warn("Delivering change events failed ({} in a row), retrying in {} ms: {}",
+                    consecutiveFailures, backoff, e.toString());
+            try {
+                oldestPending = outboxRepository.findOldestCreatedAt();
+            } catch (RuntimeException ignored) {
+                // The database is likely what failed; the gauge keeps its last value
+            }
+        }
+    }
+
+    // The events delivered; none when the outbox is empty or another instance is draining it
+    private List<ChangeEvent> dispatchBatch() {
+        List<ChangeEvent> delivered = transactionTemplate.execute(status -> {
+            if (!outboxRepository.tryLockDispatcher()) {
+                return List.of();
+            }
+            List<ChangeEvent> events = outboxRepository.findOldest(batchSize);
+            if (events.isEmpty()) {
+                return events;
+            }
+            for (OutboxSink sink : sinks) {
+                if (sink.isEnabled()) {
+                    deliver(sink, events);
+                }
+            }
+            outboxRepository.delete(events);
+            return events;
+        });
+        return delivered != null ? delivered : List.of();
+    }
+
+    private void deliver(OutboxSink sink, List<ChangeEvent> events) {
+        try {
+            sink.deliver(events);
+        } catch (IOException e) {
+            failed(sink);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            failed(sink);
+            throw e;
+        }
+        Counter.builder("outbox.events")
+                .description("Change events delivered, per sink (redeliveries included)")
+                .tag("sink", sink.getName())
+                .register(registry)
+                .increment(events.size());
+    }
+
+    private void failed(OutboxSink sink) {
+        Counter.builder("outbox.failures")
+                .description("Batches a sink failed to accept; each is delivered again to every sink")
+                .tag("sink", sink.getName())
+                .register(registry)
+                .increment();
+    }
+
+    private double lagSeconds() {
+        Instant oldest = oldestPending;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, Instant.now()).toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,21 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.ChangeEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A destination for change events. Every enabled sink bean receives every batch, in outbox id
+ * order, on the dispatcher thread while the batch is still locked. Throwing leaves the batch in
+ * the outbox, and all sinks receive it again, so sinks and their consumers see duplicates
+ * after a failure and must deduplicate on the event id.
+ */
+public interface OutboxSink {
+
+    String getName();
+
+    boolean isEnabled();
+
+    void deliver(List<ChangeEvent> events) throws IOException;
+}
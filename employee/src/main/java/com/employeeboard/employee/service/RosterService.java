@@ -0,0 +1,124 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.RosterDepartment;
+import com.employeeboard.employee.dto.RosterEmployee;
+import com.employeeboard.employee.dto.RosterWeek;
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+import com.employeeboard.employee.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the weekly roster (employees grouped by department, with their shifts per day)
+ * from a single joined query and keeps the result per week together with the version it
+ * was built under. Local changes drop snapshots right away; changes made on other instances
+ * move the shared version, and a snapshot whose version no longer matches is rebuilt.
+ */
+@Service
+public class RosterService {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ChangeTracker changeTracker;
+
+    @Value("${roster.cache.max-weeks:104}")
+    private long maxWeeks;
+
+    private Cache<LocalDate, Snapshot> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(maxWeeks)
+                .build();
+    }
+
+    public CollectionVersion getWeekVersion(LocalDate day) {
+        LocalDate weekStart = weekStart(day);
+        return changeTracker.shiftsVersion(weekStart, weekStart.plusDays(6), true);
+    }
+
+    /**
+     * Returns the week as of {@code version}, taken from {@link #getWeekVersion} just before.
+     */
+    public RosterWeek getWeek(LocalDate day, CollectionVersion version) {
+        LocalDate weekStart = weekStart(day);
+        Snapshot cached = snapshots.getIfPresent(weekStart);
+        if (cached != null && cached.etag().equals(version.getEtag())) {
+            return cached.week();
+        }
+        // Built outside the cache's compute, so the query neither holds up other weeks nor pins
+        // a virtual thread. It is installed only over the entry seen above: a snapshot or an
+        // invalidation that came in meanwhile wins, and this request answers from its own build
+        Snapshot built = new Snapshot(version.getEtag(), buildWeek(weekStart));
+        if (cached == null) {
+            snapshots.asMap().putIfAbsent(weekStart, built);
+        } else {
+            snapshots.asMap().replace(weekStart, cached, built);
+        }
+        return built.week();
+    }
+
+    public void onShiftsChanged(Collection<Shift> shifts) {
+        TransactionCallbacks.afterCommit(() -> shifts.forEach(shift -> snapshots.invalidate(weekStart(shift.getDate()))));
+    }
+
+    // Every week lists every employee, so employee changes invalidate all snapshots
+    public void onEmployeesChanged() {
+        TransactionCallbacks.afterCommit(() -> snapshots.invalidateAll());
+    }
+
+    private RosterWeek buildWeek(LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        Map<String, List<RosterEmployee>> departments = new LinkedHashMap<>();
+        RosterEmployee current = null;
+
+        for (Object[] row : employeeRepository.findRosterRows(weekStart, weekEnd)) {
+            Employee employee = (Employee) row[0];
+            Shift shift = (Shift) row[1];
+
+            if (current == null || !current.getId().equals(employee.getId())) {
+                current = new RosterEmployee(employee.getId(), employee.getName(), employee.getEmployeeCode(), emptyDays(weekStart));
+                departments.computeIfAbsent(employee.getDepartment(), department -> new ArrayList<>()).add(current);
+            }
+            if (shift != null) {
+                current.getDays().get(shift.getDate()).add(shift);
+            }
+        }
+
+        List<RosterDepartment> grouped = new ArrayList<>();
+        departments.forEach((department, employees) -> grouped.add(new RosterDepartment(department, employees)));
+        return new RosterWeek(weekStart, weekEnd, grouped);
+    }
+
+    private Map<LocalDate, List<Shift>> emptyDays(LocalDate weekStart) {
+        Map<LocalDate, List<Shift>> days = new LinkedHashMap<>();
+        for (int i = 0; i < 7; i++) {
+            days.put(weekStart.plusDays(i), new ArrayList<>());
+        }
+        return days;
+    }
+
+    private record Snapshot(String etag, RosterWeek week) {
+    }
+
+    private LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,261 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.BulkImportResponse;
+import com.employeeboard.employee.dto.BulkRowResult;
+import com.employeeboard.employee.dto.CoverageRequirement;
+import com.employeeboard.employee.dto.ScheduleJob;
+import com.employeeboard.employee.dto.ScheduleRequest;
+import com.employeeboard.employee.dto.ShiftRequest;
+import com.employeeboard.employee.dto.UnfilledSlot;
+import com.employeeboard.employee.exception.ScheduleJobNotFoundException;
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+import com.employeeboard.employee.repository.EmployeeRepository;
+import com.employeeboard.employee.repository.ShiftRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates rosters as background jobs: loads the employees and surrounding shifts of the
+ * requested departments, plans them with {@link ScheduleSolver} on a fork-join pool, and
+ * stores the result in one transaction through {@link ShiftService#importGeneratedShifts},
+ * which checks every shift again. One job runs at a time; up to {@code schedules.jobs.queue}
+ * wait, and further submissions are refused. Job status lives in memory on the instance
+ * that accepted the job.
+ */
+@Service
+public class ScheduleService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleService.class);
+
+    // Unfilled slots listed in a job's status; the counts cover all of them
+    private static final int MAX_UNFILLED_LISTED = 500;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ShiftRepository shiftRepository;
+
+    @Autowired
+    private ShiftService shiftService;
+
+    @Value("${schedules.max-days:93}")
+    private long maxDays;
+
+    @Value("${schedules.rules.min-rest-minutes:600}")
+    private int defaultMinRestMinutes;
+
+    @Value("${shifts.rules.min-rest-minutes:0}")
+    private int shiftMinRestMinutes;
+
+    @Value("${schedules.rules.max-hours-per-week:40}")
+    private int defaultMaxHoursPerWeek;
+
+    @Value("${schedules.parallelism:0}")
+    private int parallelism;
+
+    @Value("${schedules.jobs.queue:4}")
+    private int queueSize;
+
+    @Value("${schedules.jobs.retention:3600000}")
+    private long retention;
+
+    private ForkJoinPool solverPool;
+    private ThreadPoolExecutor runner;
+    private Cache<String, ScheduleJob> jobs;
+
+    @PostConstruct
+    void init() {
+        solverPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        runner = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "schedule-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        jobs = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(retention))
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+        solverPool.shutdownNow();
+    }
+
+    public ScheduleJob submit(ScheduleRequest request) {
+        validate(request);
+        ScheduleJob job = new ScheduleJob(UUID.randomUUID().toString(), request.getFrom(), request.getTo(), request.isDryRun());
+        jobs.put(job.getId(), job);
+        try {
+            runner.execute(() -> run(job, request));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    public ScheduleJob getJob(String id) {
+        ScheduleJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new ScheduleJobNotFoundException(id);
+        }
+        return job;
+    }
+
+    /**
+     * Stops a job that has not started storing its shifts; a stored roster is not undone.
+     */
+    public ScheduleJob cancel(String id) {
+        ScheduleJob job = getJob(id);
+        job.setCancelRequested(true);
+        return job;
+    }
+
+    private void validate(ScheduleRequest request) {
+        if (request.getTo().isBefore(request.getFrom())) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) >= maxDays) {
+            throw new IllegalArgumentException("A schedule must not span more than " + maxDays + " days");
+        }
+        for (CoverageRequirement requirement : request.getCoverage()) {
+            // Same minimum as a shift created by hand
+            if (ShiftService.shiftHours(requirement.getStartTime(), requirement.getEndTime()) < ShiftService.MIN_SHIFT_HOURS) {
+                throw new IllegalArgumentException("Coverage for " + requirement.getDepartment() + " from "
+                        + requirement.getStartTime() + " to " + requirement.getEndTime() + " is shorter than "
+                        + ShiftService.MIN_SHIFT_HOURS + " hours");
+            }
+        }
+    }
+
+    private void run(ScheduleJob job, ScheduleRequest request) {
+        if (job.isCancelRequested()) {
+            finish(job, ScheduleJob.CANCELLED);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            job.setState(ScheduleJob.PLANNING);
+            List<ScheduleSolver.DepartmentInput> departments = load(request);
+            long days = ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) + 1;
+            job.setTotalUnits((int) (departments.size() * days));
+
+            // The stricter of the requested rest gap and the one every new shift is held to
+            int minRest = Math.max(Objects.requireNonNullElse(request.getMinRestMinutes(), defaultMinRestMinutes),
+                    shiftMinRestMinutes);
+            ScheduleSolver solver = new ScheduleSolver(request.getFrom(), request.getTo(), Duration.ofMinutes(minRest),
+                    Objects.requireNonNullElse(request.getMaxHoursPerWeek(), defaultMaxHoursPerWeek),
+                    request.getAvailability() != null ? request.getAvailability() : List.of(),
+                    job::isCancelRequested, job::unitPlanned);
+            List<ScheduleSolver.DepartmentPlan> plans = solver.planAll(solverPool, departments);
+
+            List<ShiftRequest> shifts = new ArrayList<>();
+            List<UnfilledSlot> unfilled = new ArrayList<>();
+            int required = 0;
+            for (ScheduleSolver.DepartmentPlan plan : plans) {
+                plan.assigned().forEach(shift -> shifts.add(new ShiftRequest(shift.getEmployeeId(), shift.getDate(),
+                        shift.getStartTime(), shift.getEndTime())));
+                unfilled.addAll(plan.unfilled());
+                required += plan.required();
+            }
+            unfilled.sort(Comparator.comparing(UnfilledSlot::getDate).thenComparing(UnfilledSlot::getDepartment)
+                    .thenComparing(UnfilledSlot::getStartTime));
+            job.setRequired(required);
+            job.setAssigned(shifts.size());
+            job.setUnfilled(unfilled.size() > MAX_UNFILLED_LISTED ? List.copyOf(unfilled.subList(0, MAX_UNFILLED_LISTED)) : unfilled);
+            long planningMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            if (request.isDryRun()) {
+                job.setShifts(shifts);
+            } else {
+                if (job.isCancelRequested()) {
+                    throw new CancellationException();
+                }
+                job.setState(ScheduleJob.COMMITTING);
+                BulkImportResponse response = shiftService.importGeneratedShifts(shifts);
+                if (response.getRejected() > 0) {
+                    // Rows are checked again under the employee locks; someone changed the board meanwhile
+                    job.setError(response.getRejected() + " generated shifts no longer fit, nothing was stored: "
+                            + firstError(response) + ". Run the job again.");
+                    finish(job, ScheduleJob.FAILED);
+                    return;
+                }
+                job.setCreated(response.getCreated());
+            }
+            finish(job, ScheduleJob.COMPLETED);
+            log.info("Schedule job {} for {} to {}: {} departments, {} of {} slots assigned, {} created; planned in {} ms, done in {} ms",
+                    job.getId(), request.getFrom(), request.getTo(), departments.size(), shifts.size(), required,
+                    job.getCreated(), planningMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (CancellationException e) {
+            finish(job, ScheduleJob.CANCELLED);
+        } catch (RuntimeException e) {
+            log.warn("Schedule job {} failed", job.getId(), e);
+            job.setError(e.getMessage());
+            finish(job, ScheduleJob.FAILED);
+        }
+    }
+
+    private List<ScheduleSolver.DepartmentInput> load(ScheduleRequest request) {
+        Map<String, List<CoverageRequirement>> coverage = new LinkedHashMap<>();
+        request.getCoverage().forEach(requirement ->
+                coverage.computeIfAbsent(requirement.getDepartment().trim(), department -> new ArrayList<>()).add(requirement));
+
+        // Shifts in the weeks around the range count towards weekly hours and rest gaps
+        LocalDate loadFrom = request.getFrom().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusDays(1);
+        LocalDate loadTo = request.getTo().with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).plusDays(1);
+        List<Employee> employees = employeeRepository.findByDepartmentIn(coverage.keySet());
+        List<ScheduleSolver.DepartmentInput> departments = new ArrayList<>();
+        coverage.forEach((department, requirements) -> {
+            List<Employee> members = employees.stream()
+                    .filter(employee -> department.equals(employee.getDepartment()))
+                    .toList();
+            List<Shift> existing = shiftRepository.findByDepartmentAndDateBetween(department, loadFrom, loadTo);
+            departments.add(new ScheduleSolver.DepartmentInput(department, members, existing, requirements));
+        });
+        return departments;
+    }
+
+    private static String firstError(BulkImportResponse response) {
+        return response.getResults().stream()
+                .filter(result -> BulkRowResult.REJECTED.equals(result.getStatus()) && result.getError() != null
+                        && !result.getError().startsWith("Not imported"))
+                .map(BulkRowResult::getError)
+                .findFirst()
+                .orElse("conflicting shift");
+    }
+
+    private void finish(ScheduleJob job, String state) {
+        job.setFinishedAt(Instant.now());
+        job.setState(state);
+    }
+}
@@ -0,0 +1,254 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.dto.CoverageRequirement;
+import com.employeeboard.employee.dto.EmployeeAvailability;
+import com.employeeboard.employee.dto.UnfilledSlot;
+import com.employeeboard.employee.model.Employee;
+import com.employeeboard.employee.model.Shift;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Plans shifts for coverage requirements one department at a time, day by day. Each day's
+ * open slots are matched to eligible employees with augmenting paths, so as many slots are
+ * filled as the day allows, and least-loaded employees are tried first. An employee is
+ * eligible when available that day, within their weekly hours, and when the shift keeps
+ * the one-per-day, overlap and rest-gap rules against their stored and planned shifts.
+ * Departments share no employees, so they are planned in parallel on a fork-join pool.
+ */
+final class ScheduleSolver {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Duration minRest;
+    private final long maxWeeklyMinutes;
+    private final Map<Long, Availability> availability = new HashMap<>();
+    private final BooleanSupplier cancelled;
+    private final Runnable dayPlanned;
+
+    ScheduleSolver(LocalDate from, LocalDate to, Duration minRest, int maxHoursPerWeek,
+                   List<EmployeeAvailability> availability, BooleanSupplier cancelled, Runnable dayPlanned) {
+        this.from = from;
+        this.to = to;
+        this.minRest = minRest;
+        this.maxWeeklyMinutes = maxHoursPerWeek * 60L;
+        this.cancelled = cancelled;
+        this.dayPlanned = dayPlanned;
+        for (EmployeeAvailability entry : availability) {
+            this.availability.put(entry.getEmployeeId(), Availability.of(entry, maxWeeklyMinutes));
+        }
+    }
+
+    List<DepartmentPlan> planAll(ForkJoinPool pool, List<DepartmentInput> departments) {
+        return departments.isEmpty() ? List.of() : pool.invoke(new PlanTask(departments));
+    }
+
+    DepartmentPlan plan(DepartmentInput input) {
+        Map<Long, EmployeeState> employees = new LinkedHashMap<>();
+        input.employees().forEach(employee -> employees.put(employee.getId(), new EmployeeState(employee.getId())));
+
+        // Stored shifts constrain the plan, and those matching a requirement count towards it
+        Map<SlotKey, Integer> covered = new HashMap<>();
+        for (Shift shift : input.existing()) {
+            EmployeeState employee = employees.get(shift.getEmployeeId());
+            if (employee != null) {
+                employee.add(shift);
+            }
+            covered.merge(new SlotKey(shift.getDate(), shift.getStartTime(), shift.getEndTime()), 1, Integer::sum);
+        }
+
+        List<Shift> assigned = new ArrayList<>();
+        List<UnfilledSlot> unfilled = new ArrayList<>();
+        int required = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            List<Slot> slots = new ArrayList<>();
+            for (CoverageRequirement requirement : input.coverage()) {
+                if (requirement.getDays() != null && !requirement.getDays().isEmpty()
+                        && !requirement.getDays().contains(day.getDayOfWeek())) {
+                    continue;
+                }
+                required += requirement.getHeadcount();
+                int open = requirement.getHeadcount()
+                        - covered.getOrDefault(new SlotKey(day, requirement.getStartTime(), requirement.getEndTime()), 0);
+                if (open <= 0) {
+                    continue;
+                }
+                // Every slot of a requirement has the same candidates
+                List<EmployeeState> candidates = candidates(employees.values(), day, requirement);
+                for (int i = 0; i < open; i++) {
+                    slots.add(new Slot(requirement, candidates));
+                }
+            }
+
+            // Most constrained slots first, so scarce employees go where only they fit
+            slots.sort(Comparator.comparingInt(slot -> slot.candidates().size()));
+            Map<EmployeeState, Slot> matched = new HashMap<>();
+            Map<CoverageRequirement, Integer> missing = new LinkedHashMap<>();
+            for (Slot slot : slots) {
+                if (!assignFree(slot, matched) && !augment(slot, matched, new HashSet<>())) {
+                    missing.merge(slot.requirement(), 1, Integer::sum);
+                }
+            }
+
+            for (Map.Entry<EmployeeState, Slot> match : matched.entrySet()) {
+                CoverageRequirement requirement = match.getValue().requirement();
+                Shift shift = new Shift(match.getKey().id, day, requirement.getStartTime(), requirement.getEndTime());
+                match.getKey().add(shift);
+                assigned.add(shift);
+            }
+            LocalDate date = day;
+            missing.forEach((requirement, count) -> unfilled.add(new UnfilledSlot(date, input.department(),
+                    requirement.getStartTime(), requirement.getEndTime(), count)));
+            dayPlanned.run();
+        }
+        assigned.sort(Comparator.comparing(Shift::getDate).thenComparing(Shift::getStartTime).thenComparing(Shift::getEmployeeId));
+        return new DepartmentPlan(input.department(), assigned, unfilled, required);
+    }
+
+    private List<EmployeeState> candidates(Iterable<EmployeeState> employees, LocalDate day, CoverageRequirement requirement) {
+        long minutes = ShiftService.shiftMinutes(requirement.getStartTime(), requirement.getEndTime());
+        LocalDate week = weekStart(day);
+        List<EmployeeState> candidates = new ArrayList<>();
+        for (EmployeeState employee : employees) {
+            Availability available = availability.get(employee.id);
+            long maxMinutes = maxWeeklyMinutes;
+            if (available != null) {
+                if (!available.allows(day)) {
+                    continue;
+                }
+                maxMinutes = available.maxWeeklyMinutes();
+            }
+            if (employee.weekMinutes(week) + minutes > maxMinutes) {
+                continue;
+            }
+            Shift candidate = new Shift(employee.id, day, requirement.getStartTime(), requirement.getEndTime());
+            if (employee.timeline.findConflict(candidate, minRest, true) == null) {
+                candidates.add(employee);
+            }
+        }
+        candidates.sort(Comparator.<EmployeeState>comparingLong(employee -> employee.weekMinutes(week))
+                .thenComparingLong(employee -> employee.totalMinutes)
+                .thenComparingLong(employee -> employee.id));
+        return candidates;
+    }
+
+    private boolean assignFree(Slot slot, Map<EmployeeState, Slot> matched) {
+        for (EmployeeState employee : slot.candidates()) {
+            if (!matched.containsKey(employee)) {
+                matched.put(employee, slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Looks for a chain of reassignments that frees a candidate for this slot
+    private boolean augment(Slot slot, Map<EmployeeState, Slot> matched, Set<EmployeeState> visited) {
+        for (EmployeeState employee : slot.candidates()) {
+            if (visited.add(employee)) {
+                Slot current = matched.get(employee);
+                if (current == null || augment(current, matched, visited)) {
+                    matched.put(employee, slot);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    record DepartmentInput(String department, List<Employee> employees, List<Shift> existing,
+                           List<CoverageRequirement> coverage) {}
+
+    record DepartmentPlan(String department, List<Shift> assigned, List<UnfilledSlot> unfilled, int required) {}
+
+    private record Slot(CoverageRequirement requirement, List<EmployeeState> candidates) {}
+
+    private record SlotKey(LocalDate date, LocalTime startTime, LocalTime endTime) {}
+
+    private record Availability(Set<DayOfWeek> days, Set<LocalDate> unavailableDates, long maxWeeklyMinutes) {
+
+        static Availability of(EmployeeAvailability entry, long defaultMaxWeeklyMinutes) {
+            Set<DayOfWeek> days = entry.getDays() == null || entry.getDays().isEmpty()
+                    ? EnumSet.allOf(DayOfWeek.class)
+                    : EnumSet.copyOf(entry.getDays());
+            Set<LocalDate> unavailable = entry.getUnavailableDates() == null ? Set.of() : new HashSet<>(entry.getUnavailableDates());
+            long maxMinutes = entry.getMaxHoursPerWeek() != null ? entry.getMaxHoursPerWeek() * 60L : defaultMaxWeeklyMinutes;
+            return new Availability(days, unavailable, maxMinutes);
+        }
+
+        boolean allows(LocalDate day) {
+            return days.contains(day.getDayOfWeek()) && !unavailableDates.contains(day);
+        }
+    }
+
+    // Only touched by the task planning the employee's department
+    private static final class EmployeeState {
+        final long id;
+        final ShiftTimeline timeline = new ShiftTimeline();
+        final Map<LocalDate, Long> weeklyMinutes = new HashMap<>();
+        long totalMinutes;
+
+        EmployeeState(long id) {
+            this.id = id;
+        }
+
+        void add(Shift shift) {
+            long minutes = ShiftService.shiftMinutes(shift.getStartTime(), shift.getEndTime());
+            timeline.add(shift);
+            weeklyMinutes.merge(weekStart(shift.getDate()), minutes, Long::sum);
+            totalMinutes += minutes;
+        }
+
+        long weekMinutes(LocalDate weekStart) {
+            return weeklyMinutes.getOrDefault(weekStart, 0L);
+        }
+    }
+
+    // Splits the departments in halves until each task plans one
+    private final class PlanTask extends RecursiveTask<List<DepartmentPlan>> {
+
+        private final List<DepartmentInput> departments;
+
+        PlanTask(List<DepartmentInput> departments) {
+            this.departments = departments;
+        }
+
+        @Override
+        protected List<DepartmentPlan> compute() {
+            if (departments.size() == 1) {
+                return List.of(plan(departments.get(0)));
+            }
+            int middle = departments.size() / 2;
+            PlanTask left = new PlanTask(departments.subList(0, middle));
+            left.fork();
+            List<DepartmentPlan> right = new PlanTask(departments.subList(middle, departments.size())).compute();
+            List<DepartmentPlan> plans = new ArrayList<>(left.join());
+            plans.addAll(right);
+            return plans;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.model.Shift;
+import com.employeeboard.employee.repository.ShiftRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory per-employee {@link ShiftTimeline}s used to validate new shifts without
+ * querying the employee's history. A timeline holds the shifts within
+ * {@code shifts.index.window-days} of the date it was loaded for; a shift dated outside
+ * that window loads a new one around its own date. Timelines are kept in sync when shifts
+ * are created or deleted, and reloaded after {@code shifts.index.ttl} so changes made by
+ * other instances are picked up. Until then a cached timeline can miss a shift stored
+ * elsewhere: overlaps are still caught by a database constraint, the rest gap and the
+ * one-per-day rule by {@link #findConflictInDatabase}.
+ */
+@Component
+public class ShiftIntervalIndex {
+
+    @Autowired
+    private ShiftRepository shiftRepository;
+
+    @Value("${shifts.index.max-employees:10000}")
+    private long maxEmployees;
+
+    @Value("${shifts.index.ttl:300000}")
+    private long ttl;
+
+    @Value("${shifts.index.window-days:28}")
+    private long windowDays;
+
+    @Value("${shifts.rules.min-rest-minutes:0}")
+    private long minRestMinutes;
+
+    @Value("${shifts.rules.one-per-day:true}")
+    private boolean onePerDay;
+
+    private Cache<Long, CachedTimeline> timelines;
+
+    @PostConstruct
+    void init() {
+        timelines = Caffeine.newBuilder()
+                .maximumSize(maxEmployees)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    /**
+     * Returns the first scheduling rule the shift breaks, or {@code null}.
+     */
+    public ShiftTimeline.Conflict findConflict(Shift candidate) {
+        return timeline(candidate.getEmployeeId(), candidate.getDate()).findConflict(candidate, minRest(), onePerDay);
+    }
+
+    /**
+     * Checks a shift the cached timeline accepted against the stored shifts around it. No
+     * database constraint covers the rest gap or the one-per-day rule, so without this a
+     * shift another instance stored, and this one has not cached yet, could end up too close
+     * to the new one or on the same day. The caller must hold the employee's lock from
+     * {@code EmployeeRepository.lockForWrite}.
+     */
+    public ShiftTimeline.Conflict findConflictInDatabase(Shift candidate) {
+        if (minRestMinutes == 0 && !onePerDay) {
+            return null;
+        }
+        Long employeeId = candidate.getEmployeeId();
+        return findConflict(candidate, loadWindow(List.of(employeeId), candidate.getDate(), candidate.getDate()).get(employeeId));
+    }
+
+    /**
+     * Checks the shift against a timeline loaded by {@link #loadWindow}.
+     */
+    public ShiftTimeline.Conflict findConflict(Shift candidate, ShiftTimeline timeline) {
+        return timeline.findConflict(candidate, minRest(), onePerDay);
+    }
+
+    /**
+     * Loads, with one query, the stored shifts that shifts dated {@code from..to} can conflict
+     * with: overnight shifts reach one day either way, and the rest gap further. The timelines
+     * belong to the caller, who adds its own shifts as it accepts them; the shared cache is
+     * neither filled with whole histories nor churned by batches larger than it.
+     */
+    public Map<Long, ShiftTimeline> loadWindow(Collection<Long> employeeIds, LocalDate from, LocalDate to) {
+        Map<Long, ShiftTimeline> loaded = new HashMap<>();
+        employeeIds.forEach(employeeId -> loaded.put(employeeId, new ShiftTimeline()));
+        if (employeeIds.isEmpty()) {
+            return loaded;
+        }
+        long reach = 1 + ceilDays(minRestMinutes);
+        shiftRepository.findByEmployeeIdInAndDateBetween(employeeIds, from.minusDays(reach), to.plusDays(reach))
+                .forEach(shift -> loaded.get(shift.getEmployeeId()).add(shift));
+        return loaded;
+    }
+
+    public void onShiftsCreated(List<Shift> shifts) {
+        TransactionCallbacks.afterCommit(() -> shifts.forEach(shift -> {
+            CachedTimeline cached = timelines.getIfPresent(shift.getEmployeeId());
+            if (cached != null) {
+                cached.timeline().add(shift);
+            }
+        }));
+    }
+
+    public void onShiftDeleted(Shift shift) {
+        TransactionCallbacks.afterCommit(() -> {
+            CachedTimeline cached = timelines.getIfPresent(shift.getEmployeeId());
+            if (cached != null) {
+                cached.timeline().remove(shift);
+            }
+        });
+    }
+
+    private ShiftTimeline timeline(Long employeeId, LocalDate date) {
+        CachedTimeline cached = timelines.getIfPresent(employeeId);
+        if (cached != null && cached.covers(date)) {
+            return cached.timeline();
+        }
+        // Loaded outside the cache's compute, so the JDBC round trip neither holds up other
+        // employees' entries nor pins a virtual thread. Writers of one employee are serialised
+        // by its lock, so no shift of this employee is committed while the window loads
+        LocalDate from = date.minusDays(windowDays);
+        LocalDate to = date.plusDays(windowDays);
+        CachedTimeline loaded = new CachedTimeline(loadWindow(List.of(employeeId), from, to).get(employeeId), from, to);
+        if (cached == null) {
+            timelines.asMap().putIfAbsent(employeeId, loaded);
+        } else {
+            timelines.asMap().replace(employeeId, cached, loaded);
+        }
+        return loaded.timeline();
+    }
+
+    private static long ceilDays(long minutes) {
+        return (minutes + 24 * 60 - 1) / (24 * 60);
+    }
+
+    private Duration minRest() {
+        return Duration.ofMinutes(minRestMinutes);
+    }
+
+    /**
+     * A timeline complete for candidate shifts dated {@code from..to}; {@link #loadWindow}
+     * adds the neighbouring days those can conflict with.
+     */
+    private record CachedTimeline(ShiftTimeline timeline, LocalDate from, LocalDate to) {
+
+        boolean covers(LocalDate date) {
+            return !date.isBefore(from) && !date.isAfter(to);
+        }
+    }
+}
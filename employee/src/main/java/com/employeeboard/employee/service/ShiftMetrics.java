@@ -0,0 +1,52 @@
+package com.employeeboard.employee.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the shift write path: end-to-end {@code shifts.create} latency by outcome,
+ * latency of each validation step, and {@code shifts.rejections} by the rule that failed.
+ * Timers publish histograms so p99s can be computed across instances.
+ */
+@Component
+public class ShiftMetrics {
+
+    static final String CREATED = "created";
+    static final String REJECTED = "rejected";
+    static final String FAILED = "failed";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stopCreate(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("shifts.create")
+                .description("Time to validate and store one shift, including the per-employee lock wait")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public void timeValidation(String step, Runnable validation) {
+        Timer.builder("shifts.validation")
+                .description("Time spent in one validation step of a new shift")
+                .tag("step", step)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(validation);
+    }
+
+    public void rejected(String rule) {
+        Counter.builder("shifts.rejections")
+                .description("Shifts rejected by a validation rule, single and bulk")
+                .tag("rule", rule)
+                .register(registry)
+                .increment();
+    }
+}
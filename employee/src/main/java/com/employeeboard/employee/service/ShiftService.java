@@ -1,19 +1,48 @@
 package com.employeeboard.employee.service;
 
+import com.employeeboard.employee.dto.BulkImportResponse;
+import com.employeeboard.employee.dto.BulkRowResult;
+import com.employeeboard.employee.dto.CursorPage;
 import com.employeeboard.employee.dto.ShiftRequest;
 import com.employeeboard.employee.exception.EmployeeNotFoundException;
 import com.employeeboard.employee.model.Shift;
 import com.employeeboard.employee.repository.EmployeeRepository;
 import com.employeeboard.employee.repository.ShiftRepository;
+import com.employeeboard.employee.repository.ShiftSpecifications;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
 
 @Service
 public class ShiftService {
+
+    static final long MIN_SHIFT_HOURS = 4;
     
     @Autowired
     private ShiftRepository shiftRepository;
@@ -21,11 +50,74 @@ public class ShiftService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ShiftIntervalIndex shiftIntervalIndex;
+
+    @Autowired
+    private EmployeeLocks employeeLocks;
+
+    @Autowired
+    private RosterService rosterService;
+
+    @Autowired
+    private ChangeTracker changeTracker;
+
+    @Autowired
+    private LaborAnalyticsService laborAnalytics;
+
+    @Autowired
+    private BoardEventBroadcaster boardEvents;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private ShiftMetrics shiftMetrics;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${shifts.query.max-range-days:366}")
+    private long maxRangeDays;
+
+    @Value("${pagination.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${shifts.bulk.max-rows:20000}")
+    private int maxBulkRows;
+
     public Shift createShift(ShiftRequest request) {
-        // Validate employee exists
-        if (!employeeRepository.existsById(request.getEmployeeId())) {
+        Timer.Sample sample = shiftMetrics.start();
+        String outcome = ShiftMetrics.FAILED;
+        try {
+            // Check-then-insert must not interleave with another writer for the same employee,
+            // so the lock is held until the transaction has committed
+            Shift shift = employeeLocks.withLock(request.getEmployeeId(),
+                    () -> transactionTemplate.execute(status -> createShiftInTransaction(request)));
+            outcome = ShiftMetrics.CREATED;
+            return shift;
+        } catch (IllegalArgumentException | EmployeeNotFoundException e) {
+            outcome = ShiftMetrics.REJECTED;
+            throw e;
+        } finally {
+            shiftMetrics.stopCreate(sample, outcome);
+        }
+    }
+
+    private Shift createShiftInTransaction(ShiftRequest request) {
+        // Validate employee exists (findById is answered from the second-level cache)
+        if (employeeRepository.findById(request.getEmployeeId()).isEmpty()) {
+            shiftMetrics.rejected("employee");
             throw new EmployeeNotFoundException("Employee with ID " + request.getEmployeeId() + " not found");
         }
+        // Writers for this employee on other instances wait here too; taken before any row is touched
+        employeeRepository.lockForWrite(List.of(request.getEmployeeId()));
         
         Shift shift = new Shift(
             request.getEmployeeId(),
@@ -35,40 +127,235 @@ public class ShiftService {
         );
         
         // Business Rule: Validate minimum 4-hour shift duration
-        validateShiftDuration(shift);
+        shiftMetrics.timeValidation("duration", () -> validateShiftDuration(shift));
         
         // Business Rule: Validate no overlapping shifts for the same employee
-        validateNoOverlappingShifts(shift);
+        shiftMetrics.timeValidation("overlap", () -> validateNoOverlappingShifts(shift));
         
-        return shiftRepository.save(shift);
+        Shift saved = shiftRepository.saveAndFlush(shift);
+        shiftIntervalIndex.onShiftsCreated(List.of(saved));
+        rosterService.onShiftsChanged(List.of(saved));
+        laborAnalytics.onShiftsCreated(List.of(saved));
+        changeTracker.shiftsChanged(List.of(saved.getDate()));
+        boardEvents.shiftsCreated(List.of(saved));
+        changeOutbox.shiftsCreated(List.of(saved));
+        return saved;
     }
 
-    private void validateShiftDuration(Shift shift) {
-        Duration duration = Duration.between(shift.getStartTime(), shift.getEndTime());
-        long hours = duration.toHours();
-        
-        // Handle overnight shifts (e.g., 22:00 to 06:00)
-        if (hours < 0) {
-            hours += 24;
+    public BulkImportResponse importShifts(List<ShiftRequest> requests, boolean allOrNothing) {
+        checkBulkSize(requests);
+        return importRows(requests, Map.of(), i -> i + 1, allOrNothing);
+    }
+
+    /**
+     * Stores a generated roster all-or-nothing through the bulk path, every row checked
+     * against the same rules as a single create. Not limited by {@code shifts.bulk.max-rows}.
+     */
+    public BulkImportResponse importGeneratedShifts(List<ShiftRequest> requests) {
+        return importRows(requests, Map.of(), i -> i + 1, true);
+    }
+
+    /**
+     * Results are numbered by line in the file, so skipped header and blank lines do not
+     * shift them.
+     */
+    public BulkImportResponse importShiftsCsv(String csv, boolean allOrNothing) {
+        List<ShiftRequest> requests = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        Map<Integer, String> parseErrors = new HashMap<>();
+
+        String[] lines = csv.split("\\r?\\n");
+        for (int lineIndex = 0; lineIndex < lines.length; lineIndex++) {
+            String line = lines[lineIndex];
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] columns = line.split(",", -1);
+            String firstColumn = columns[0].trim();
+            // Optional header row: employeeId,date,startTime,endTime
+            if (requests.isEmpty() && !firstColumn.isEmpty() && !Character.isDigit(firstColumn.charAt(0))) {
+                continue;
+            }
+            lineNumbers.add(lineIndex + 1);
+            if (columns.length != 4) {
+                parseErrors.put(requests.size(), "Expected 4 columns: employeeId,date,startTime,endTime");
+                requests.add(null);
+                continue;
+            }
+            try {
+                requests.add(new ShiftRequest(
+                    Long.valueOf(columns[0].trim()),
+                    LocalDate.parse(columns[1].trim()),
+                    LocalTime.parse(columns[2].trim()),
+                    LocalTime.parse(columns[3].trim())
+                ));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                parseErrors.put(requests.size(), "Unparseable row: " + e.getMessage());
+                requests.add(null);
+            }
         }
+        checkBulkSize(requests);
+        return importRows(requests, parseErrors, lineNumbers::get, allOrNothing);
+    }
+
+    private void checkBulkSize(List<ShiftRequest> requests) {
+        if (requests.size() > maxBulkRows) {
+            throw new IllegalArgumentException("Bulk import is limited to " + maxBulkRows + " rows");
+        }
+    }
+
+    // rowNumbers maps a request's index to the row number reported back for it
+    private BulkImportResponse importRows(List<ShiftRequest> requests, Map<Integer, String> parseErrors,
+                                          IntUnaryOperator rowNumbers, boolean allOrNothing) {
+        Set<Long> employeeIds = new HashSet<>();
+        for (ShiftRequest request : requests) {
+            if (request != null && request.getEmployeeId() != null) {
+                employeeIds.add(request.getEmployeeId());
+            }
+        }
+
+        return employeeLocks.withLocks(employeeIds, () -> transactionTemplate.execute(
+                status -> importRowsInTransaction(requests, parseErrors, rowNumbers, employeeIds, allOrNothing)));
+    }
+
+    private BulkImportResponse importRowsInTransaction(List<ShiftRequest> requests, Map<Integer, String> parseErrors,
+                                                       IntUnaryOperator rowNumbers, Set<Long> employeeIds,
+                                                       boolean allOrNothing) {
+        // Locked on every instance before reading, so the stored shifts cannot change under the checks
+        employeeRepository.lockForWrite(employeeIds);
+        // Resolve employees and the stored shifts around the batch's dates with two queries
+        Set<Long> existingEmployees = employeeIds.isEmpty()
+                ? Set.of()
+                : employeeRepository.findExistingIds(employeeIds);
+        Map<Long, ShiftTimeline> timelines = loadBatchWindow(requests, existingEmployees);
+
+        List<BulkRowResult> results = new ArrayList<>(requests.size());
+        List<Shift> accepted = new ArrayList<>();
+        List<Integer> acceptedRows = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = parseErrors.get(i);
+            if (error == null) {
+                error = validateBulkRow(requests.get(i), existingEmployees, timelines);
+            }
+            if (error != null) {
+                results.add(BulkRowResult.rejected(rowNumbers.applyAsInt(i), error));
+                continue;
+            }
+            ShiftRequest request = requests.get(i);
+            Shift shift = new Shift(request.getEmployeeId(), request.getDate(), request.getStartTime(), request.getEndTime());
+            // Later rows of the batch are checked against this one too
+            timelines.get(shift.getEmployeeId()).add(shift);
+            accepted.add(shift);
+            acceptedRows.add(i);
+            results.add(null);
+        }
+
+        boolean hasRejections = accepted.size() < requests.size();
+        if (allOrNothing && hasRejections) {
+            for (int row : acceptedRows) {
+                results.set(row, BulkRowResult.rejected(rowNumbers.applyAsInt(row), "Not imported: the batch contains invalid rows"));
+            }
+            return new BulkImportResponse(results, true);
+        }
+
+        // Sequence-backed ids let Hibernate send these as JDBC batches
+        List<Shift> saved = shiftRepository.saveAll(accepted);
+        shiftRepository.flush();
+        shiftIntervalIndex.onShiftsCreated(saved);
+        rosterService.onShiftsChanged(saved);
+        if (!saved.isEmpty()) {
+            laborAnalytics.onShiftsCreated(saved);
+            changeTracker.shiftsChanged(saved.stream().map(Shift::getDate).toList());
+            boardEvents.shiftsCreated(saved);
+            changeOutbox.shiftsCreated(saved);
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            int row = acceptedRows.get(i);
+            results.set(row, BulkRowResult.created(rowNumbers.applyAsInt(row), saved.get(i).getId()));
+        }
+        return new BulkImportResponse(results, allOrNothing);
+    }
+
+    private Map<Long, ShiftTimeline> loadBatchWindow(List<ShiftRequest> requests, Set<Long> existingEmployees) {
+        LocalDate from = null;
+        LocalDate to = null;
+        for (ShiftRequest request : requests) {
+            if (request != null && request.getDate() != null) {
+                from = from == null || request.getDate().isBefore(from) ? request.getDate() : from;
+                to = to == null || request.getDate().isAfter(to) ? request.getDate() : to;
+            }
+        }
+        return from == null
+                ? new HashMap<>()
+                : shiftIntervalIndex.loadWindow(existingEmployees, from, to);
+    }
+
+    private String validateBulkRow(ShiftRequest request, Set<Long> existingEmployees, Map<Long, ShiftTimeline> timelines) {
+        if (request == null) {
+            shiftMetrics.rejected("invalid");
+            return "Row is empty";
+        }
+        Set<ConstraintViolation<ShiftRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            shiftMetrics.rejected("invalid");
+            return violations.iterator().next().getMessage();
+        }
+        if (!existingEmployees.contains(request.getEmployeeId())) {
+            shiftMetrics.rejected("employee");
+            return "Employee with ID " + request.getEmployeeId() + " not found";
+        }
+        Shift shift = new Shift(request.getEmployeeId(), request.getDate(), request.getStartTime(), request.getEndTime());
+        try {
+            validateShiftDuration(shift);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        // Checked against stored shifts and against earlier rows of this batch
+        ShiftTimeline.Conflict conflict = shiftIntervalIndex.findConflict(shift, timelines.get(shift.getEmployeeId()));
+        if (conflict == null) {
+            return null;
+        }
+        shiftMetrics.rejected(conflict.rule().getTag());
+        return conflict.message();
+    }
+
+    void validateShiftDuration(Shift shift) {
+        long hours = shiftHours(shift.getStartTime(), shift.getEndTime());
         
-        if (hours < 4) {
+        if (hours < MIN_SHIFT_HOURS) {
+            shiftMetrics.rejected("duration");
             throw new IllegalArgumentException(
                 "Shift duration must be at least 4 hours. Current duration: " + hours + " hours"
             );
         }
     }
     
-    private void validateNoOverlappingShifts(Shift shift) {
-        List<Shift> existingShifts = shiftRepository.findByEmployeeIdAndDate(
-            shift.getEmployeeId(),
-            shift.getDate()
-        );
+    static long shiftHours(LocalTime startTime, LocalTime endTime) {
+        long hours = Duration.between(startTime, endTime).toHours();
         
-        if (!existingShifts.isEmpty()) {
-            throw new IllegalArgumentException(
-                "Employee already has a shift assigned on " + shift.getDate() + ". Only one shift per employee per day is allowed."
-            );
+        // Handle overnight shifts (e.g., 22:00 to 06:00)
+        if (hours < 0) {
+            hours += 24;
+        }
+        return hours;
+    }
+
+    // Overnight shifts (end at or before start) end on the following day, as in ShiftTimeline
+    static long shiftMinutes(LocalTime startTime, LocalTime endTime) {
+        long seconds = Duration.between(startTime, endTime).getSeconds();
+        return (seconds > 0 ? seconds : seconds + 24 * 60 * 60) / 60;
+    }
+
+    void validateNoOverlappingShifts(Shift shift) {
+        // Overlap, rest-gap and one-per-day rules are answered from the in-memory timeline
+        ShiftTimeline.Conflict conflict = shiftIntervalIndex.findConflict(shift);
+        if (conflict == null) {
+            conflict = shiftIntervalIndex.findConflictInDatabase(shift);
+        }
+        
+        if (conflict != null) {
+            shiftMetrics.rejected(conflict.rule().getTag());
+            throw new IllegalArgumentException(conflict.message());
         }
     }
 
@@ -76,10 +363,93 @@ public class ShiftService {
         if (date != null) {
             return shiftRepository.findByDate(date);
         }
-        return shiftRepository.findAll();
+        return getShifts(null, null, null, null);
+    }
+
+    /**
+     * Version of what {@link #getShifts(LocalDate, LocalDate, Long, String)} would return,
+     * read from the change counters only. Department filters also depend on employees.
+     */
+    public CollectionVersion getShiftsVersion(LocalDate from, LocalDate to, String department) {
+        LocalDate[] range = resolveRange(from, to);
+        boolean hasDepartment = department != null && !department.trim().isEmpty();
+        return changeTracker.shiftsVersion(range[0], range[1], hasDepartment);
+    }
+
+    public List<Shift> getShifts(LocalDate from, LocalDate to, Long employeeId, String department) {
+        LocalDate[] range = resolveRange(from, to);
+        from = range[0];
+        to = range[1];
+
+        boolean hasDepartment = department != null && !department.trim().isEmpty();
+        if (employeeId != null && hasDepartment) {
+            return shiftRepository.findByEmployeeIdAndDepartmentAndDateBetween(employeeId, department.trim(), from, to);
+        }
+        if (employeeId != null) {
+            return shiftRepository.findByEmployeeIdAndDateBetweenOrderByDateAscStartTimeAsc(employeeId, from, to);
+        }
+        if (hasDepartment) {
+            return shiftRepository.findByDepartmentAndDateBetween(department.trim(), from, to);
+        }
+        return shiftRepository.findByDateBetweenOrderByDateAscStartTimeAsc(from, to);
+    }
+
+    private LocalDate[] resolveRange(LocalDate from, LocalDate to) {
+        // Without explicit bounds, default to the current week instead of the whole table
+        if (from == null && to == null) {
+            from = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            to = from.plusDays(6);
+        } else if (from == null) {
+            from = to.minusDays(6);
+        } else if (to == null) {
+            to = from.plusDays(6);
+        }
+
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new IllegalArgumentException("Date range must not exceed " + maxRangeDays + " days");
+        }
+        return new LocalDate[] {from, to};
+    }
+
+    public CursorPage<Shift> getShiftsPage(Long after, int limit, LocalDate from, LocalDate to,
+                                           Long employeeId, String department) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageLimit));
+        Specification<Shift> spec = ShiftSpecifications.matching(from, to, employeeId, department)
+                .and(ShiftSpecifications.idAfter(after != null ? after : 0L));
+        List<Shift> shifts = shiftRepository.findBy(spec, query -> query
+                .sortBy(Sort.by("id"))
+                .limit(pageSize)
+                .all());
+        Long nextAfter = shifts.size() == pageSize ? shifts.get(shifts.size() - 1).getId() : null;
+        return new CursorPage<>(shifts, nextAfter, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamShifts(LocalDate from, LocalDate to, Long employeeId, String department,
+                             Consumer<? super Shift> consumer) {
+        Specification<Shift> spec = ShiftSpecifications.matching(from, to, employeeId, department);
+        try (Stream<Shift> shifts = shiftRepository.findBy(spec, query -> query.sortBy(Sort.by("id")).stream())) {
+            shifts.forEach(shift -> {
+                consumer.accept(shift);
+                entityManager.detach(shift);
+            });
+        }
     }
 
+    @Transactional
     public void deleteShift(Long id) {
-        shiftRepository.deleteById(id);
+        shiftRepository.findById(id).ifPresent(shift -> {
+            employeeRepository.lockForWrite(List.of(shift.getEmployeeId()));
+            shiftRepository.delete(shift);
+            shiftIntervalIndex.onShiftDeleted(shift);
+            rosterService.onShiftsChanged(List.of(shift));
+            laborAnalytics.onShiftDeleted(shift);
+            changeTracker.shiftsChanged(List.of(shift.getDate()));
+            boardEvents.shiftDeleted(shift);
+            changeOutbox.shiftDeleted(shift);
+        });
     }
 }
@@ -0,0 +1,106 @@
+package com.employeeboard.employee.service;
+
+import com.employeeboard.employee.model.Shift;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * One employee's shifts ordered by absolute start instant. Overnight shifts end on the
+ * following day, the same way {@code validateShiftDuration} treats them, so every check
+ * only has to look at the neighbours of the candidate: O(log n) regardless of history size.
+ */
+public class ShiftTimeline {
+
+    private static final Comparator<Interval> ORDER =
+            Comparator.comparing(Interval::start).thenComparingLong(Interval::id);
+
+    private final TreeSet<Interval> intervals = new TreeSet<>(ORDER);
+
+    public synchronized void add(Shift shift) {
+        intervals.add(Interval.of(shift));
+    }
+
+    public synchronized void remove(Shift shift) {
+        intervals.remove(Interval.of(shift));
+    }
+
+    public synchronized int size() {
+        return intervals.size();
+    }
+
+    /**
+     * Returns the first rule the candidate breaks, or {@code null} if it fits.
+     */
+    public synchronized Conflict findConflict(Shift candidate, Duration minRest, boolean onePerDay) {
+        Interval interval = Interval.of(candidate);
+
+        if (onePerDay) {
+            LocalDate day = candidate.getDate();
+            Interval dayStart = new Interval(Long.MIN_VALUE, day.atStartOfDay(), day.atStartOfDay());
+            Interval nextDayStart = new Interval(Long.MIN_VALUE, day.plusDays(1).atStartOfDay(), day.plusDays(1).atStartOfDay());
+            if (!intervals.subSet(dayStart, true, nextDayStart, false).isEmpty()) {
+                return new Conflict(Rule.ONE_PER_DAY,
+                        "Employee already has a shift assigned on " + day + ". Only one shift per employee per day is allowed.");
+            }
+        }
+
+        Interval previous = intervals.floor(new Interval(Long.MAX_VALUE, interval.start(), interval.start()));
+        Interval next = intervals.ceiling(new Interval(Long.MIN_VALUE, interval.start(), interval.start()));
+        if (next != null && next.equals(previous)) {
+            next = intervals.higher(next);
+        }
+
+        if (previous != null && previous.end().isAfter(interval.start())) {
+            return new Conflict(Rule.OVERLAP, "Shift overlaps an existing shift from " + previous.start() + " to " + previous.end());
+        }
+        if (next != null && next.start().isBefore(interval.end())) {
+            return new Conflict(Rule.OVERLAP, "Shift overlaps an existing shift from " + next.start() + " to " + next.end());
+        }
+        if (!minRest.isZero()) {
+            if (previous != null && previous.end().plus(minRest).isAfter(interval.start())) {
+                return new Conflict(Rule.MIN_REST,
+                        "Shifts must be at least " + minRest.toMinutes() + " minutes apart; previous shift ends at " + previous.end());
+            }
+            if (next != null && interval.end().plus(minRest).isAfter(next.start())) {
+                return new Conflict(Rule.MIN_REST,
+                        "Shifts must be at least " + minRest.toMinutes() + " minutes apart; next shift starts at " + next.start());
+            }
+        }
+        return null;
+    }
+
+    public enum Rule {
+        ONE_PER_DAY("one-per-day"),
+        OVERLAP("overlap"),
+        MIN_REST("min-rest");
+
+        private final String tag;
+
+        Rule(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    public record Conflict(Rule rule, String message) {}
+
+    record Interval(long id, LocalDateTime start, LocalDateTime end) {
+
+        static Interval of(Shift shift) {
+            LocalDateTime start = LocalDateTime.of(shift.getDate(), shift.getStartTime());
+            // Handle overnight shifts (e.g., 22:00 to 06:00)
+            LocalDate endDate = shift.getEndTime().isAfter(shift.getStartTime())
+                    ? shift.getDate()
+                    : shift.getDate().plusDays(1);
+            long id = shift.getId() != null ? shift.getId() : 0L;
+            return new Interval(id, start, LocalDateTime.of(endDate, shift.getEndTime()));
+        }
+    }
+}
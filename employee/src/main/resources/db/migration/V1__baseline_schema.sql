@@ -0,0 +1,90 @@
+-- Schema as of the first versioned migration. Every statement is idempotent: databases created
+-- earlier (by ddl-auto=update or database_reset.sql) are baselined at version 0 and brought up
+-- to date by this script. Later changes go in new V<n>__*.sql files, never in this one.
+
+CREATE SEQUENCE IF NOT EXISTS employee_sequence START WITH 1 INCREMENT BY 1;
+
+-- Shift IDs are allocated by Hibernate in blocks of 50 so inserts can be batched
+CREATE SEQUENCE IF NOT EXISTS shift_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employees (
+    id BIGINT DEFAULT nextval('employee_sequence') PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    employee_code VARCHAR(255) NOT NULL UNIQUE,
+    department VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    name VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS shifts (
+    id BIGINT PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Entity versions, for conditional GETs
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE shifts ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Older databases numbered shifts with a serial column; ids now come from shift_sequence
+ALTER TABLE shifts ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS shifts_id_seq;
+-- Never move the sequence backwards: instances may hold allocated blocks beyond MAX(id)
+SELECT setval('shift_sequence', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) + 50 FROM shifts),
+    (SELECT last_value FROM shift_sequence)));
+
+-- Per-employee date lookups. Several shifts per day are allowed unless shifts.rules.one-per-day,
+-- which the application checks; an earlier unique constraint on these columns is replaced
+ALTER TABLE shifts DROP CONSTRAINT IF EXISTS uk_shifts_employee_date;
+CREATE INDEX IF NOT EXISTS idx_shifts_employee_date ON shifts (employee_id, date);
+
+-- Backstop for the application's overlap check: no two shifts of one employee may overlap in time.
+-- Overnight shifts (end_time <= start_time) end on the following day.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'shifts_no_overlap') THEN
+        ALTER TABLE shifts ADD CONSTRAINT shifts_no_overlap EXCLUDE USING gist (
+            employee_id WITH =,
+            tsrange(date + start_time,
+                    CASE WHEN end_time <= start_time THEN (date + 1) + end_time ELSE date + end_time END) WITH &&
+        );
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_employees_department ON employees (department);
+
+-- Composite index for date-range shift queries
+CREATE INDEX IF NOT EXISTS idx_shifts_date_employee ON shifts (date, employee_id);
+
+-- Change counters per collection scope ('employees', 'shifts:<date>'), used to answer conditional GETs
+CREATE TABLE IF NOT EXISTS change_counters (
+    scope VARCHAR(64) PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+-- Revoked JWT ids, kept until the token expires; mirrored in memory by every instance
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+
+COMMENT ON TABLE employees IS 'Stores employee information with name, code, and department only';
+COMMENT ON TABLE users IS 'Stores user authentication information (decoupled from employees)';
+COMMENT ON TABLE shifts IS 'Stores shift schedules with employee assignment, date and time range';
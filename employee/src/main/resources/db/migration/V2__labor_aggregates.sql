@@ -0,0 +1,45 @@
+-- Aggregates behind GET /api/analytics, kept up to date by the application in the same transaction
+-- as every shift write. Overnight shifts (end_time <= start_time) end on the following day: their
+-- minutes count towards the week they start in, their hours of presence towards the day they fall on.
+
+-- Scheduled minutes per employee per week (weeks start on Monday)
+CREATE TABLE shift_hours_weekly (
+    week_start DATE NOT NULL,
+    employee_id BIGINT NOT NULL,
+    minutes BIGINT NOT NULL,
+    shifts INTEGER NOT NULL,
+    PRIMARY KEY (week_start, employee_id)
+);
+
+CREATE INDEX idx_shift_hours_weekly_employee ON shift_hours_weekly (employee_id);
+
+-- Employees on shift during each hour of each day, per department
+CREATE TABLE shift_coverage_hourly (
+    date DATE NOT NULL,
+    department VARCHAR(255) NOT NULL,
+    hour SMALLINT NOT NULL,
+    headcount INTEGER NOT NULL,
+    PRIMARY KEY (date, department, hour)
+);
+
+INSERT INTO shift_hours_weekly (week_start, employee_id, minutes, shifts)
+SELECT date_trunc('week', s.date)::date,
+       s.employee_id,
+       SUM((EXTRACT(EPOCH FROM s.end_time - s.start_time)::bigint
+            + CASE WHEN s.end_time <= s.start_time THEN 86400 ELSE 0 END) / 60),
+       COUNT(*)
+FROM shifts s
+JOIN employees e ON e.id = s.employee_id
+GROUP BY 1, 2;
+
+-- A shift counts in every hour it overlaps
+INSERT INTO shift_coverage_hourly (date, department, hour, headcount)
+SELECT h::date, e.department, EXTRACT(HOUR FROM h)::smallint, COUNT(*)
+FROM shifts s
+JOIN employees e ON e.id = s.employee_id
+CROSS JOIN LATERAL generate_series(
+        date_trunc('hour', s.date + s.start_time),
+        CASE WHEN s.end_time <= s.start_time THEN (s.date + 1) + s.end_time ELSE s.date + s.end_time END
+            - INTERVAL '1 microsecond',
+        INTERVAL '1 hour') h
+GROUP BY 1, 2, 3;
@@ -0,0 +1,12 @@
+-- Change events written in the same transaction as the shift and employee changes they describe,
+-- and deleted once every sink has accepted them (see OutboxDispatcher). Rows are delivered in id
+-- order; writers for one employee are serialised until commit, so for each employee id order is
+-- also commit order.
+CREATE TABLE change_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(40) NOT NULL,
+    employee_id BIGINT NOT NULL,
+    entity_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
@@ -0,0 +1,13 @@
+-- Hourly coverage changes not yet folded into shift_coverage_hourly. Shift writes only append here,
+-- so writers in one department on one day no longer wait on the same aggregate rows until they
+-- commit. CoverageFolder moves the rows into the aggregate in the background; reads add whatever
+-- has not been folded yet.
+CREATE TABLE shift_coverage_deltas (
+    id BIGSERIAL PRIMARY KEY,
+    date DATE NOT NULL,
+    department VARCHAR(255) NOT NULL,
+    hour SMALLINT NOT NULL,
+    headcount INTEGER NOT NULL
+);
+
+CREATE INDEX idx_shift_coverage_deltas_date ON shift_coverage_deltas (date);
@@ -0,0 +1,95 @@
+package com.employeeboard.employee.startup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures how long the packaged application takes to start in each deployment mode, from
+ * launching the JVM until the application context has refreshed ({@code spring.context.exit=onRefresh}).
+ * Runs without a database, so connection setup and migrations are not included; they cost
+ * the same in every mode. Run by {@code mvn -Pfast-start verify}, which passes:
+ * {@code <target dir> <jar name> <runs> <fast-start profiles> <offline JVM options...>}.
+ */
+public final class StartupReport {
+
+    private StartupReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path target = Path.of(args[0]);
+        String jarName = args[1] + ".jar";
+        int runs = Integer.parseInt(args[2]);
+        String fastStartProfiles = args[3];
+        List<String> offlineArgs = Arrays.asList(args).subList(4, args.length);
+
+        Path extracted = target.resolve("fast-start");
+        Path archive = extracted.resolve("application.jsa");
+        List<Mode> modes = List.of(
+                new Mode("jar", target.resolve(jarName), List.of("-Dspring.profiles.active=production")),
+                new Mode("extracted", extracted.resolve(jarName), List.of("-Dspring.profiles.active=production")),
+                new Mode("lazy", extracted.resolve(jarName), List.of("-Dspring.profiles.active=" + fastStartProfiles)),
+                new Mode("lazy+aot", extracted.resolve(jarName),
+                        List.of("-Dspring.profiles.active=" + fastStartProfiles, "-Dspring.aot.enabled=true")),
+                new Mode("lazy+aot+cds", extracted.resolve(jarName),
+                        List.of("-Dspring.profiles.active=" + fastStartProfiles, "-Dspring.aot.enabled=true",
+                                "-XX:SharedArchiveFile=" + archive)));
+
+        // Warms the file system cache so the first mode is not penalised
+        modes.get(0).start(offlineArgs, target);
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Startup to context refreshed, %d runs per mode, Java %s, %d CPUs%n",
+                runs, Runtime.version(), Runtime.getRuntime().availableProcessors()));
+        report.append(String.format("%-14s %10s %10s %10s %9s%n", "mode", "median ms", "min ms", "max ms", "vs jar"));
+        double baseline = 0;
+        for (Mode mode : modes) {
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = mode.start(offlineArgs, target);
+            }
+            Arrays.sort(millis);
+            double median = runs % 2 == 1 ? millis[runs / 2] : (millis[runs / 2 - 1] + millis[runs / 2]) / 2.0;
+            if (baseline == 0) {
+                baseline = median;
+            }
+            report.append(String.format("%-14s %10.0f %10d %10d %8.0f%%%n", mode.name, median, millis[0], millis[runs - 1],
+                    (median / baseline - 1) * 100));
+        }
+
+        System.out.println();
+        System.out.print(report);
+        Path path = target.resolve("startup-report.txt");
+        Files.writeString(path, report);
+        System.out.println("Report written to " + path);
+    }
+
+    private record Mode(String name, Path jar, List<String> jvmArgs) {
+
+        /** Starts the application once and returns the wall-clock time until its JVM exited. */
+        long start(List<String> offlineArgs, Path target) throws IOException, InterruptedException {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmArgs);
+            command.addAll(offlineArgs);
+            command.add("-jar");
+            command.add(jar.toString());
+
+            Path log = target.resolve("startup-" + name + ".log");
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            long started = System.nanoTime();
+            int exitCode = process.waitFor();
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            if (exitCode != 0) {
+                throw new IllegalStateException("Mode " + name + " exited with " + exitCode + "; see " + log);
+            }
+            return millis;
+        }
+    }
+}
@@ -21,14 +21,50 @@ api.interceptors.request.use(
   }
 );
 
-// Response interceptor to handle errors
+const clearSession = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('role');
+  window.location.href = '/login';
+};
+
+// Concurrent 401s share one refresh call, since each refresh token works only once
+let refreshing = null;
+
+const refreshAccessToken = () => {
+  if (!refreshing) {
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshing = axios
+      .post(`${api.defaults.baseURL}/auth/refresh`, { refreshToken })
+      .then((response) => {
+        localStorage.setItem('token', response.data.token);
+        localStorage.setItem('refreshToken', response.data.refreshToken);
+        return response.data.token;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
+// Response interceptor to renew expired access tokens and handle errors
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
-      localStorage.removeItem('token');
-      localStorage.removeItem('role');
-      window.location.href = '/login';
+  async (error) => {
+    const original = error.config;
+    const isAuthCall = original?.url?.startsWith('/auth/');
+    if (error.response?.status === 401 && !isAuthCall && !original._retried && localStorage.getItem('refreshToken')) {
+      original._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch {
+        clearSession();
+      }
+    } else if (error.response?.status === 401 && !isAuthCall) {
+      clearSession();
     }
     return Promise.reject(error);
   }
@@ -0,0 +1,55 @@
+import api from './axios';
+
+// Shift and employee listings in the server's columnar layout: parallel arrays instead of one
+// object per row. Decoded here back into the same objects the plain JSON listings return.
+const COLUMNS = 'application/vnd.shiftboard.columns+json';
+
+const pad = (value) => String(value).padStart(2, '0');
+
+const formatTime = (seconds) =>
+  `${pad(Math.floor(seconds / 3600))}:${pad(Math.floor(seconds / 60) % 60)}:${pad(seconds % 60)}`;
+
+const addDays = (isoDate, days) => {
+  const [year, month, day] = isoDate.split('-').map(Number);
+  return new Date(Date.UTC(year, month - 1, day + days)).toISOString().slice(0, 10);
+};
+
+export const fromShiftColumns = (columns) => {
+  const shifts = new Array(columns.count);
+  for (let i = 0; i < columns.count; i++) {
+    shifts[i] = {
+      id: columns.id[i],
+      employeeId: columns.employeeIds[columns.employee[i]],
+      date: addDays(columns.baseDate, columns.day[i]),
+      startTime: formatTime(columns.start[i] * columns.timeUnit),
+      endTime: formatTime(columns.end[i] * columns.timeUnit),
+      version: columns.version[i],
+    };
+  }
+  return shifts;
+};
+
+export const fromEmployeeColumns = (columns) => {
+  const employees = new Array(columns.count);
+  for (let i = 0; i < columns.count; i++) {
+    employees[i] = {
+      id: columns.id[i],
+      name: columns.name[i],
+      employeeCode: columns.employeeCode[i],
+      department: columns.departments[columns.department[i]],
+      version: columns.version[i],
+    };
+  }
+  return employees;
+};
+
+// Same response as api.get('/shifts', { params }), fetched in the compact layout
+export const getShifts = async (params) => {
+  const response = await api.get('/shifts', { params, headers: { Accept: COLUMNS } });
+  return { ...response, data: fromShiftColumns(response.data) };
+};
+
+export const getEmployees = async () => {
+  const response = await api.get('/employees', { headers: { Accept: COLUMNS } });
+  return { ...response, data: fromEmployeeColumns(response.data) };
+};
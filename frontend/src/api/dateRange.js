@@ -0,0 +1,12 @@
+// Shift listings are always requested for an explicit date range. Pages start on the current
+// week (Monday to Sunday), the same range the API falls back to when none is given.
+const pad = (value) => String(value).padStart(2, '0');
+
+const toIsoDate = (date) => `${date.getFullYear()}-${pad(date.getMonth() + 1)}-${pad(date.getDate())}`;
+
+export const currentWeek = () => {
+  const today = new Date();
+  const monday = new Date(today.getFullYear(), today.getMonth(), today.getDate() - ((today.getDay() + 6) % 7));
+  const sunday = new Date(monday.getFullYear(), monday.getMonth(), monday.getDate() + 6);
+  return { from: toIsoDate(monday), to: toIsoDate(sunday) };
+};
@@ -1,12 +1,15 @@
 import { useState, useEffect } from 'react';
 import api from '../api/axios';
+import { getShifts, getEmployees } from '../api/columns';
+import { currentWeek } from '../api/dateRange';
 import { useAuth } from '../context/AuthContext';
 
 const ShiftTable = ({ onRefresh }) => {
   const [shifts, setShifts] = useState([]);
   const [employees, setEmployees] = useState([]);
   const [employeeId, setEmployeeId] = useState('');
-  const [date, setDate] = useState('');
+  const [range, setRange] = useState(currentWeek);
+  const [shownRange, setShownRange] = useState(null);
   const { isAdmin } = useAuth();
 
   useEffect(() => {
@@ -21,7 +24,7 @@ const ShiftTable = ({ onRefresh }) => {
 
   const fetchEmployees = async () => {
     try {
-      const response = await api.get('/employees');
+      const response = await getEmployees();
       setEmployees(response.data);
     } catch (err) {
       console.error('Failed to fetch employees:', err);
@@ -34,15 +37,13 @@ const ShiftTable = ({ onRefresh }) => {
   };
 
   const fetchShifts = async () => {
-    if (!employeeId && !date) return;
-    
     try {
-      const params = {};
-      if (employeeId) params.employee = employeeId;
-      if (date) params.date = date;
+      const params = { from: range.from, to: range.to };
+      if (employeeId) params.employeeId = employeeId;
       
-      const response = await api.get('/shifts', { params });
+      const response = await getShifts(params);
       setShifts(response.data);
+      setShownRange(range);
     } catch (err) {
       console.error('Failed to fetch shifts:', err);
     }
@@ -61,7 +62,7 @@ const ShiftTable = ({ onRefresh }) => {
 
   return (
     <div className="space-y-4">
-      <div className="grid grid-cols-1 md:grid-cols-3 gap-4">
+      <div className="grid grid-cols-1 md:grid-cols-4 gap-4">
         <div>
           <label className="block text-sm font-medium text-gray-700 mb-1">Employee ID</label>
           <input
@@ -73,11 +74,20 @@ const ShiftTable = ({ onRefresh }) => {
           />
         </div>
         <div>
-          <label className="block text-sm font-medium text-gray-700 mb-1">Date</label>
+          <label className="block text-sm font-medium text-gray-700 mb-1">From</label>
+          <input
+            type="date"
+            value={range.from}
+            onChange={(e) => setRange({ ...range, from: e.target.value })}
+            className="w-full px-3 py-2 border border-gray-300 rounded-md focus:outline-none focus:ring-2 focus:ring-gray-500"
+          />
+        </div>
+        <div>
+          <label className="block text-sm font-medium text-gray-700 mb-1">To</label>
           <input
             type="date"
-            value={date}
-            onChange={(e) => setDate(e.target.value)}
+            value={range.to}
+            onChange={(e) => setRange({ ...range, to: e.target.value })}
             className="w-full px-3 py-2 border border-gray-300 rounded-md focus:outline-none focus:ring-2 focus:ring-gray-500"
           />
         </div>
@@ -91,6 +101,12 @@ const ShiftTable = ({ onRefresh }) => {
         </div>
       </div>
 
+      {shownRange && (
+        <p className="text-sm text-gray-600">
+          Showing shifts from {shownRange.from} to {shownRange.to}
+        </p>
+      )}
+
       <div className="overflow-x-auto">
         <table className="min-w-full divide-y divide-gray-200">
           <thead className="bg-gray-50">
@@ -108,7 +124,7 @@ const ShiftTable = ({ onRefresh }) => {
             {shifts.length === 0 ? (
               <tr>
                 <td colSpan={isAdmin() ? 6 : 5} className="px-6 py-4 text-center text-gray-500">
-                  No shifts found. Use the filters above to search.
+                  {shownRange ? 'No shifts in this date range.' : 'No shifts found. Use the filters above to search.'}
                 </td>
               </tr>
             ) : (
@@ -1,4 +1,5 @@
 import { createContext, useState, useContext, useEffect } from 'react';
+import api from '../api/axios';
 
 const AuthContext = createContext(null);
 
@@ -16,8 +17,9 @@ export const AuthProvider = ({ children }) => {
     }
   }, []);
 
-  const login = (token, userRole, username) => {
+  const login = (token, userRole, username, refreshToken) => {
     localStorage.setItem('token', token);
+    localStorage.setItem('refreshToken', refreshToken);
     localStorage.setItem('role', userRole);
     localStorage.setItem('username', username);
     setRole(userRole);
@@ -25,7 +27,11 @@ export const AuthProvider = ({ children }) => {
   };
 
   const logout = () => {
+    // Revoke both tokens server-side; the local session is cleared either way
+    const refreshToken = localStorage.getItem('refreshToken');
+    api.post('/auth/logout', { refreshToken }).catch(() => {});
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('role');
     localStorage.removeItem('username');
     setUser(null);
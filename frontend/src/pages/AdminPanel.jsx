@@ -1,6 +1,7 @@
 import { useState, useEffect } from 'react';
 import Layout from '../components/Layout';
 import api from '../api/axios';
+import { getEmployees } from '../api/columns';
 
 const AdminPanel = () => {
   const [employees, setEmployees] = useState([]);
@@ -18,7 +19,7 @@ const AdminPanel = () => {
   const fetchData = async () => {
     try {
       const [employeesRes, usersRes] = await Promise.all([
-        api.get('/employees'),
+        getEmployees(),
         api.get('/admin/users').catch(() => ({ data: [] })) // Fallback if endpoint doesn't exist
       ]);
       setEmployees(employeesRes.data);
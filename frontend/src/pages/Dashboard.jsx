@@ -1,7 +1,7 @@
 import { useState, useEffect } from 'react';
 import { useAuth } from '../context/AuthContext';
 import Layout from '../components/Layout';
-import api from '../api/axios';
+import { getShifts, getEmployees } from '../api/columns';
 
 const Dashboard = () => {
   const { isAdmin, user } = useAuth();
@@ -28,12 +28,10 @@ const Dashboard = () => {
       const today = new Date().toISOString().split('T')[0];
       
       // Fetch today's shifts
-      const shiftsResponse = await api.get('/shifts', {
-        params: { date: today }
-      });
+      const shiftsResponse = await getShifts({ date: today });
       
       // Fetch all employees
-      const employeesResponse = await api.get('/employees');
+      const employeesResponse = await getEmployees();
       const employeesData = employeesResponse.data;
       setEmployees(employeesData);
 
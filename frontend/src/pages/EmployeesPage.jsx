@@ -2,6 +2,7 @@ import { useState, useEffect } from 'react';
 import { useAuth } from '../context/AuthContext';
 import Layout from '../components/Layout';
 import api from '../api/axios';
+import { getEmployees } from '../api/columns';
 
 const EmployeesPage = () => {
   const { isAdmin } = useAuth();
@@ -23,7 +24,7 @@ const EmployeesPage = () => {
 
   const fetchEmployees = async () => {
     try {
-      const response = await api.get('/employees');
+      const response = await getEmployees();
       setEmployees(response.data);
     } catch (err) {
       setError('Failed to fetch employees');
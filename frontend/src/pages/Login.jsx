@@ -16,8 +16,8 @@ const Login = () => {
     
     try {
       const response = await api.post('/auth/login', { username, password });
-      const { token, role, username: user } = response.data;
-      login(token, role, user);
+      const { token, role, username: user, refreshToken } = response.data;
+      login(token, role, user, refreshToken);
       navigate('/dashboard');
     } catch (err) {
       const errorMsg = err.response?.data?.username || err.response?.data?.password || err.response?.data?.error || 'Login failed';
@@ -2,6 +2,8 @@ import { useState, useEffect } from 'react';
 import { useAuth } from '../context/AuthContext';
 import Layout from '../components/Layout';
 import api from '../api/axios';
+import { getShifts, getEmployees } from '../api/columns';
+import { currentWeek } from '../api/dateRange';
 
 const ShiftsPage = () => {
   const { isAdmin } = useAuth();
@@ -9,7 +11,8 @@ const ShiftsPage = () => {
   const [employees, setEmployees] = useState([]);
   const [loading, setLoading] = useState(true);
   const [showAddModal, setShowAddModal] = useState(false);
-  const [filterDate, setFilterDate] = useState('');
+  const [range, setRange] = useState(currentWeek);
+  const [shownRange, setShownRange] = useState(null);
   const [employeeSearch, setEmployeeSearch] = useState('');
   const [showEmployeeDropdown, setShowEmployeeDropdown] = useState(false);
   const [formData, setFormData] = useState({
@@ -29,7 +32,7 @@ const ShiftsPage = () => {
 
   const fetchEmployees = async () => {
     try {
-      const response = await api.get('/employees');
+      const response = await getEmployees();
       setEmployees(response.data);
     } catch (err) {
       console.error('Failed to fetch employees:', err);
@@ -37,14 +40,13 @@ const ShiftsPage = () => {
   };
 
   const fetchShifts = async () => {
+    setError('');
     try {
-      const params = {};
-      if (filterDate) params.date = filterDate;
-
-      const response = await api.get('/shifts', { params });
+      const response = await getShifts({ from: range.from, to: range.to });
       setShifts(response.data);
+      setShownRange(range);
     } catch (err) {
-      setError('Failed to fetch shifts');
+      setError(err.response?.data?.error || 'Failed to fetch shifts');
       console.error(err);
     } finally {
       setLoading(false);
@@ -158,17 +160,33 @@ const ShiftsPage = () => {
             {message}
           </div>
         )}
+        {error && (
+          <div className="bg-red-50 border border-red-300 text-red-800 px-4 py-3 rounded">
+            {error}
+          </div>
+        )}
 
         {/* Filters */}
         <div className="bg-white p-4 rounded-lg shadow-md">
-          <div className="grid grid-cols-1 md:grid-cols-2 gap-4">
+          <div className="grid grid-cols-1 md:grid-cols-3 gap-4">
             <div>
-              <label className="block text-sm font-medium text-gray-700 mb-1">Filter by Date</label>
+              <label className="block text-sm font-medium text-gray-700 mb-1">From</label>
               <input
                 type="date"
-                value={filterDate}
-                onChange={(e) => setFilterDate(e.target.value)}
+                value={range.from}
+                onChange={(e) => setRange({ ...range, from: e.target.value })}
                 className="w-full px-3 py-2 border border-gray-300 rounded-md focus:outline-none focus:ring-2 focus:ring-gray-500"
+                required
+              />
+            </div>
+            <div>
+              <label className="block text-sm font-medium text-gray-700 mb-1">To</label>
+              <input
+                type="date"
+                value={range.to}
+                onChange={(e) => setRange({ ...range, to: e.target.value })}
+                className="w-full px-3 py-2 border border-gray-300 rounded-md focus:outline-none focus:ring-2 focus:ring-gray-500"
+                required
               />
             </div>
             <div className="flex items-end">
@@ -184,13 +202,18 @@ const ShiftsPage = () => {
 
         {/* Shifts Table */}
         <div className="bg-white rounded-lg shadow-md overflow-hidden">
+          {shownRange && (
+            <p className="px-6 py-3 text-sm text-gray-600 border-b border-gray-200">
+              Showing shifts from {shownRange.from} to {shownRange.to}
+            </p>
+          )}
           {loading ? (
             <div className="p-8 text-center">
               <p className="text-gray-500">Loading shifts...</p>
             </div>
           ) : shifts.length === 0 ? (
             <div className="p-8 text-center">
-              <p className="text-gray-500">No shifts found. {isAdmin() && 'Create a new shift to get started.'}</p>
+              <p className="text-gray-500">No shifts in this date range. {isAdmin() && 'Create a new shift to get started.'}</p>
             </div>
           ) : (
             <div className="overflow-x-auto">